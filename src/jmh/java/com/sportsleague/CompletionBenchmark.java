@@ -0,0 +1,107 @@
+package com.sportsleague;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Top-10 prefix completions over a large league, as the CLI asks for them while a name is typed: the
+// first few letters of a surname, and a full first name followed by the start of a surname.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class CompletionBenchmark {
+    private static final String[] SYLLABLES = {"an", "ar", "bel", "ca", "da", "el", "fer", "ga", "han", "is",
+            "jo", "ka", "la", "ma", "mi", "nor", "ol", "pe", "ra", "ri", "sa", "son", "ta", "ton", "vi", "win"};
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"1000000"})
+    private int playerCount;
+
+    @Param({"5000"})
+    private int teamCount;
+
+    private LeagueManager league;
+    private String[] surnamePrefixes;
+    private String[] fullNamePrefixes;
+    private String[] teamPrefixes;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        String[] firstNames = names(2000, 2, random);
+        String[] surnames = names(50000, 3, random);
+        league = new LeagueManager();
+        for (int i = 1; i <= teamCount; i++) {
+            league.registerTeam(firstNames[random.nextInt(firstNames.length)] + " " + i, "City " + i);
+        }
+        for (int i = 0; i < playerCount; i++) {
+            league.registerPlayer(firstNames[random.nextInt(firstNames.length)],
+                    surnames[random.nextInt(surnames.length)], "Guard");
+        }
+
+        surnamePrefixes = new String[QUERY_COUNT];
+        fullNamePrefixes = new String[QUERY_COUNT];
+        teamPrefixes = new String[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            Player player = league.findPlayerById(1 + random.nextInt(playerCount));
+            String surname = player.getSurname();
+            surnamePrefixes[i] = surname.substring(0, 1 + random.nextInt(Math.min(4, surname.length())));
+            fullNamePrefixes[i] = player.getFirstName() + " " + surname.substring(0, 1 + random.nextInt(2));
+            String teamName = league.findTeamById(1 + random.nextInt(teamCount)).getTeamName();
+            teamPrefixes[i] = teamName.substring(0, 1 + random.nextInt(3));
+        }
+        // Builds the indexes outside the measurement
+        league.completePlayerNames("warmup", 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        league.close();
+    }
+
+    @Benchmark
+    public List<Player> surnamePrefix() {
+        return league.completePlayerNames(surnamePrefixes[next++ & (QUERY_COUNT - 1)], 10);
+    }
+
+    @Benchmark
+    public List<Player> firstNameAndSurnamePrefix() {
+        return league.completePlayerNames(fullNamePrefixes[next++ & (QUERY_COUNT - 1)], 10);
+    }
+
+    @Benchmark
+    public List<Team> teamPrefix() {
+        return league.completeTeamNames(teamPrefixes[next++ & (QUERY_COUNT - 1)], 10);
+    }
+
+    private static String[] names(int count, int extraSyllables, Random random) {
+        String[] names = new String[count];
+        for (int i = 0; i < count; i++) {
+            StringBuilder name = new StringBuilder();
+            int syllables = 2 + random.nextInt(extraSyllables);
+            for (int s = 0; s < syllables; s++) {
+                name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+            names[i] = name.toString();
+        }
+        return names;
+    }
+}
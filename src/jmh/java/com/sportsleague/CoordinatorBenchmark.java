@@ -0,0 +1,72 @@
+package com.sportsleague;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Cross-division queries over the same playerCount players split into more and more divisions. With one
+// division there is nothing to fan out, so it is the baseline the parallel runs are compared with.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx8g"})
+public class CoordinatorBenchmark {
+    private static final String[] POSITIONS = {"Point Guard", "Shooting Guard", "Small Forward", "Power Forward", "Center"};
+
+    @Param({"1000000"})
+    private int playerCount;
+
+    @Param({"1", "4", "8"})
+    private int divisionCount;
+
+    private LeagueCoordinator coordinator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<String> divisions = new ArrayList<>();
+        for (int i = 1; i <= divisionCount; i++) {
+            divisions.add("Division " + i);
+        }
+        coordinator = new LeagueCoordinator(divisions);
+        for (int i = 1; i <= playerCount; i++) {
+            coordinator.registerPlayer(divisions.get(i % divisionCount), "First" + i, "Last" + i, POSITIONS[i % POSITIONS.length]);
+        }
+        // Builds the name indexes up front so searches don't pay for them
+        coordinator.searchPlayersByName("Last1");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        coordinator.close();
+    }
+
+    @Benchmark
+    public List<Player> searchPlayersByName() {
+        return coordinator.searchPlayersByName("Last1234");
+    }
+
+    @Benchmark
+    public int getTotalPlayers() {
+        return coordinator.getTotalPlayers();
+    }
+
+    @Benchmark
+    public List<Player> getUnassignedPlayers() {
+        return coordinator.getUnassignedPlayers();
+    }
+}
@@ -0,0 +1,60 @@
+package com.sportsleague;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+// One full draft of an unassigned pool into empty teams. A draft can only run once per league, so each
+// invocation gets a freshly built league and is timed on its own.
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class DraftBenchmark {
+    private static final String[] POSITIONS = {"Point Guard", "Shooting Guard", "Small Forward", "Power Forward", "Center"};
+
+    @Param({"100000"})
+    private int playerCount;
+
+    @Param({"5000"})
+    private int teamCount;
+
+    @Param({"HEAP"})
+    private StorageEngine storageEngine;
+
+    private LeagueManager league;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        league = new LeagueManager(storageEngine);
+        for (int i = 1; i <= teamCount; i++) {
+            league.registerTeam("Team " + i, "City " + i);
+        }
+        for (int i = 1; i <= playerCount; i++) {
+            league.registerPlayer("First" + i, "Last" + i, POSITIONS[i % POSITIONS.length]);
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() {
+        league.close();
+    }
+
+    @Benchmark
+    public DraftResult draft() {
+        return new DraftEngine(league).draft(42);
+    }
+}
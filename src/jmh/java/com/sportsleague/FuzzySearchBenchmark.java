@@ -0,0 +1,109 @@
+package com.sportsleague;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Typo-tolerant searches over a large league. Names are built from syllables so that, like real names,
+// there are far fewer distinct first names than surnames and many of them are a letter or two apart.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class FuzzySearchBenchmark {
+    private static final String[] SYLLABLES = {"an", "ar", "bel", "ca", "da", "el", "fer", "ga", "han", "is",
+            "jo", "ka", "la", "ma", "mi", "nor", "ol", "pe", "ra", "ri", "sa", "son", "ta", "ton", "vi", "win"};
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"1000000"})
+    private int playerCount;
+
+    @Param({"2000"})
+    private int firstNameCount;
+
+    @Param({"50000"})
+    private int surnameCount;
+
+    private LeagueManager league;
+    private String[] surnameQueries;
+    private String[] fullNameQueries;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        String[] firstNames = names(firstNameCount, 2, random);
+        String[] surnames = names(surnameCount, 3, random);
+        league = new LeagueManager();
+        for (int i = 0; i < playerCount; i++) {
+            league.registerPlayer(firstNames[random.nextInt(firstNames.length)],
+                    surnames[random.nextInt(surnames.length)], "Guard");
+        }
+
+        surnameQueries = new String[QUERY_COUNT];
+        fullNameQueries = new String[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            Player player = league.findPlayerById(1 + random.nextInt(playerCount));
+            surnameQueries[i] = typo(player.getSurname(), random);
+            fullNameQueries[i] = typo(player.getFirstName(), random) + " " + typo(player.getSurname(), random);
+        }
+        // Builds the index outside the measurement
+        league.searchPlayersFuzzy("warmup", 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        league.close();
+    }
+
+    @Benchmark
+    public List<Player> surname() {
+        return league.searchPlayersFuzzy(surnameQueries[next++ & (QUERY_COUNT - 1)], 10);
+    }
+
+    @Benchmark
+    public List<Player> fullName() {
+        return league.searchPlayersFuzzy(fullNameQueries[next++ & (QUERY_COUNT - 1)], 10);
+    }
+
+    @Benchmark
+    public List<Player> surnamePhonetic() {
+        return league.searchPlayersFuzzy(surnameQueries[next++ & (QUERY_COUNT - 1)], 10, true);
+    }
+
+    private static String[] names(int count, int extraSyllables, Random random) {
+        String[] names = new String[count];
+        for (int i = 0; i < count; i++) {
+            StringBuilder name = new StringBuilder();
+            int syllables = 2 + random.nextInt(extraSyllables);
+            for (int s = 0; s < syllables; s++) {
+                name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+            names[i] = name.toString();
+        }
+        return names;
+    }
+
+    // Replaces one letter, the most common kind of typo
+    private static String typo(String name, Random random) {
+        char[] letters = name.toCharArray();
+        letters[1 + random.nextInt(letters.length - 1)] = (char) ('a' + random.nextInt(26));
+        return new String(letters);
+    }
+}
@@ -0,0 +1,104 @@
+package com.sportsleague;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Registration and read paths against a league of playerCount players, half of them on full teams.
+// The registration benchmarks keep adding to the same league, so its size drifts upwards during a run.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx8g"})
+public class LeagueBenchmark {
+    private static final String[] POSITIONS = {"Point Guard", "Shooting Guard", "Small Forward", "Power Forward", "Center"};
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    private int playerCount;
+
+    @Param({"HEAP"})
+    private StorageEngine storageEngine;
+
+    private LeagueManager league;
+    private Team fullTeam;
+    private String searchQuery;
+    private int nextTeamNumber;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        league = buildLeague(storageEngine, playerCount);
+        fullTeam = league.findTeamById(1);
+        searchQuery = "Last" + (playerCount / 2);
+        nextTeamNumber = 1;
+        // Builds the name index up front so searches don't pay for it
+        league.searchPlayersByName(searchQuery);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        league.close();
+    }
+
+    // Registers playerCount players and fills one team of 15 for every 30 of them
+    static LeagueManager buildLeague(StorageEngine storageEngine, int playerCount) {
+        LeagueManager league = new LeagueManager(storageEngine);
+        int teamCount = Math.max(1, playerCount / (2 * Team.MAX_PLAYERS));
+        for (int teamId = 1; teamId <= teamCount; teamId++) {
+            league.registerTeam("Team " + teamId, "City " + teamId);
+        }
+        for (int i = 1; i <= playerCount; i++) {
+            league.registerPlayer("First" + i, "Last" + i, POSITIONS[i % POSITIONS.length]);
+        }
+        int playerId = 1;
+        for (int teamId = 1; teamId <= teamCount; teamId++) {
+            for (int slot = 0; slot < Team.MAX_PLAYERS && playerId <= playerCount; slot++) {
+                league.assignPlayerToTeam(playerId++, teamId);
+            }
+        }
+        return league;
+    }
+
+    @Benchmark
+    public Team registerTeam() {
+        return league.registerTeam("Expansion " + nextTeamNumber++, "Expansion City");
+    }
+
+    @Benchmark
+    public Player registerPlayer() {
+        return league.registerPlayer("Rookie", "Player", "Center");
+    }
+
+    @Benchmark
+    public List<Player> searchPlayersByName() {
+        return league.searchPlayersByName(searchQuery);
+    }
+
+    @Benchmark
+    public List<Player> getUnassignedPlayers() {
+        return league.getUnassignedPlayers();
+    }
+
+    @Benchmark
+    public List<Player> getAllPlayers() {
+        return league.getAllPlayers();
+    }
+
+    @Benchmark
+    public List<Player> getRoster() {
+        return fullTeam.getRoster();
+    }
+}
@@ -0,0 +1,106 @@
+package com.sportsleague;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+// Assigning and removing players. Each invocation moves a whole batch so that resetting the batch
+// between invocations costs little next to the operations being measured; results are per player.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx8g"})
+public class RosterBenchmark {
+    private static final int BATCH_TEAMS = 20;
+    private static final int BATCH_SIZE = BATCH_TEAMS * Team.MAX_PLAYERS;
+
+    // The last BATCH_SIZE players of the league, which start out unassigned, and empty teams to hold them
+    @State(Scope.Benchmark)
+    public static class Batch {
+        @Param({"1000", "100000", "1000000", "10000000"})
+        private int playerCount;
+
+        @Param({"HEAP"})
+        private StorageEngine storageEngine;
+
+        LeagueManager league;
+        int firstPlayerId;
+        int[] teamIds;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            league = LeagueBenchmark.buildLeague(storageEngine, playerCount);
+            firstPlayerId = playerCount - BATCH_SIZE + 1;
+            teamIds = new int[BATCH_TEAMS];
+            for (int i = 0; i < BATCH_TEAMS; i++) {
+                teamIds[i] = league.registerTeam("Batch Team " + i, "Batch City").getTeamId();
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            league.close();
+        }
+
+        int teamFor(int batchIndex) {
+            return teamIds[batchIndex / Team.MAX_PLAYERS];
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class UnassignedBatch extends Batch {
+        @Setup(Level.Invocation)
+        public void unassign() {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                league.removePlayerFromTeam(firstPlayerId + i);
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class AssignedBatch extends Batch {
+        @Setup(Level.Invocation)
+        public void assign() {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                league.assignPlayerToTeam(firstPlayerId + i, teamFor(i));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int assignPlayerToTeam(UnassignedBatch batch) {
+        int assigned = 0;
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            if (batch.league.assignPlayerToTeam(batch.firstPlayerId + i, batch.teamFor(i))) {
+                assigned++;
+            }
+        }
+        return assigned;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int removePlayerFromTeam(AssignedBatch batch) {
+        int removed = 0;
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            if (batch.league.removePlayerFromTeam(batch.firstPlayerId + i)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+}
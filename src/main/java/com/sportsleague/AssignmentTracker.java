@@ -0,0 +1,57 @@
+package com.sportsleague;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Tracks which registered players are unassigned, updated as rosters change rather than by scanning players.
+// Safe for concurrent use: roster changes on different teams update it without a shared lock.
+class AssignmentTracker {
+    private final ConcurrentBitSet unassignedPlayerIds;
+    private final AtomicInteger assignedCount;
+
+    AssignmentTracker() {
+        this.unassignedPlayerIds = new ConcurrentBitSet();
+        this.assignedCount = new AtomicInteger();
+    }
+
+    void playerRegistered(int playerId) {
+        unassignedPlayerIds.set(playerId);
+    }
+
+    void playersRegistered(int firstPlayerId, int lastPlayerId) {
+        unassignedPlayerIds.set(firstPlayerId, lastPlayerId + 1);
+    }
+
+    void playerAssigned(int playerId) {
+        unassignedPlayerIds.clear(playerId);
+        assignedCount.incrementAndGet();
+    }
+
+    void playerUnassigned(int playerId) {
+        unassignedPlayerIds.set(playerId);
+        assignedCount.decrementAndGet();
+    }
+
+    // Live view, for filtering other sets of players down to the unassigned ones
+    ConcurrentBitSet getUnassignedPlayerIds() {
+        return unassignedPlayerIds;
+    }
+
+    int getAssignedCount() {
+        return assignedCount.get();
+    }
+
+    // Returns unassigned player ids in ascending order
+    int[] getUnassignedIds(int totalPlayers) {
+        int[] ids = new int[Math.max(0, totalPlayers - assignedCount.get())];
+        int count = 0;
+        for (int id = unassignedPlayerIds.nextSetBit(0); id >= 0; id = unassignedPlayerIds.nextSetBit(id + 1)) {
+            if (count == ids.length) {
+                // Players can be released while we iterate
+                ids = Arrays.copyOf(ids, Math.max(16, count * 2));
+            }
+            ids[count++] = id;
+        }
+        return count == ids.length ? ids : Arrays.copyOf(ids, count);
+    }
+}
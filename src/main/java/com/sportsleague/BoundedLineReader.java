@@ -0,0 +1,94 @@
+package com.sportsleague;
+
+import java.io.IOException;
+import java.io.Reader;
+
+// Buffered line reader that never holds more than MAX_LINE_LENGTH characters of one line, so input without
+// line breaks can't exhaust memory. Lines end at LF, CR or CRLF, as with BufferedReader.
+class BoundedLineReader extends Reader {
+    static final int MAX_LINE_LENGTH = 16 * 1024;
+
+    private final Reader in;
+    private final char[] buffer;
+    private final StringBuilder line;
+    private int position;
+    private int limit;
+    private boolean skipLineFeed;
+    private boolean lineTooLong;
+
+    BoundedLineReader(Reader in, int bufferSize) {
+        this.in = in;
+        this.buffer = new char[bufferSize];
+        this.line = new StringBuilder();
+        this.position = 0;
+        this.limit = 0;
+        this.skipLineFeed = false;
+        this.lineTooLong = false;
+    }
+
+    // Returns the next line without its terminator, or null at the end of the input or once a line runs
+    // past MAX_LINE_LENGTH; isLineTooLong() tells the two apart. Nothing after a too-long line is read.
+    String readLine() throws IOException {
+        if (lineTooLong) {
+            return null;
+        }
+        line.setLength(0);
+        while (true) {
+            if (position == limit && !fill()) {
+                return line.length() == 0 ? null : line.toString();
+            }
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (buffer[position] == '\n') {
+                    position++;
+                    continue;
+                }
+            }
+            int start = position;
+            while (position < limit && buffer[position] != '\n' && buffer[position] != '\r') {
+                position++;
+            }
+            if (line.length() + (position - start) > MAX_LINE_LENGTH) {
+                lineTooLong = true;
+                return null;
+            }
+            line.append(buffer, start, position - start);
+            if (position < limit) {
+                skipLineFeed = buffer[position++] == '\r';
+                return line.toString();
+            }
+        }
+    }
+
+    boolean isLineTooLong() {
+        return lineTooLong;
+    }
+
+    @Override
+    public boolean ready() throws IOException {
+        return position < limit || in.ready();
+    }
+
+    @Override
+    public int read(char[] target, int offset, int length) throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        int count = Math.min(length, limit - position);
+        System.arraycopy(buffer, position, target, offset, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private boolean fill() throws IOException {
+        int count = in.read(buffer, 0, buffer.length);
+        position = 0;
+        limit = Math.max(count, 0);
+        return count > 0;
+    }
+}
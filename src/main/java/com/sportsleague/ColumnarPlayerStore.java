@@ -0,0 +1,155 @@
+package com.sportsleague;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// Struct-of-arrays player store for very large leagues. Each player costs two name references, a
+// position code and a team id in primitive columns, plus its UTF-8 name bytes in a shared arena, instead
+// of a Player object and three Strings. Positions are dictionary-encoded. get() returns a lightweight
+// PlayerView that reads and writes the columns.
+class ColumnarPlayerStore implements PlayerView.Store {
+    private static final int PAGE_SHIFT = 12;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int CHUNK_SHIFT = 20;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    // A name reference packs the arena offset above a 16-bit length
+    private static final int MAX_NAME_BYTES = 0xFFFF;
+
+    private volatile Page[] pages;
+    private volatile byte[][] chunks;
+    private volatile String[] positions;
+    private final Map<String, Integer> positionCodes;
+    private long arenaSize;
+    private int size;
+
+    ColumnarPlayerStore() {
+        this.pages = new Page[1];
+        this.chunks = new byte[0][];
+        this.positions = new String[0];
+        this.positionCodes = new HashMap<>();
+        this.arenaSize = 0;
+        this.size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Player get(int playerId) {
+        return new PlayerView(this, playerId);
+    }
+
+    @Override
+    public String getFirstName(int playerId) {
+        Page page = pageFor(playerId);
+        return readName(page.firstNameRefs[playerId & (PAGE_SIZE - 1)]);
+    }
+
+    @Override
+    public String getSurname(int playerId) {
+        Page page = pageFor(playerId);
+        return readName(page.surnameRefs[playerId & (PAGE_SIZE - 1)]);
+    }
+
+    @Override
+    public String getPosition(int playerId) {
+        Page page = pageFor(playerId);
+        return positions[page.positionCodes[playerId & (PAGE_SIZE - 1)]];
+    }
+
+    @Override
+    public Player add(String firstName, String surname, String position) {
+        int playerId = size + 1;
+        long firstNameRef = appendName(firstName);
+        long surnameRef = appendName(surname);
+
+        Integer positionCode = positionCodes.get(position);
+        if (positionCode == null) {
+            positionCode = positions.length;
+            String[] grown = Arrays.copyOf(positions, positions.length + 1);
+            grown[positionCode] = position;
+            positions = grown;
+            positionCodes.put(position, positionCode);
+        }
+
+        int pageIndex = playerId >>> PAGE_SHIFT;
+        Page[] currentPages = pages;
+        if (pageIndex >= currentPages.length) {
+            currentPages = Arrays.copyOf(currentPages, currentPages.length * 2);
+        }
+        if (currentPages[pageIndex] == null) {
+            currentPages[pageIndex] = new Page();
+        }
+        pages = currentPages;
+
+        Page page = currentPages[pageIndex];
+        int slot = playerId & (PAGE_SIZE - 1);
+        page.firstNameRefs[slot] = firstNameRef;
+        page.surnameRefs[slot] = surnameRef;
+        page.positionCodes[slot] = positionCode;
+        page.teamIds.set(slot, -1);
+        size = playerId;
+        return new PlayerView(this, playerId);
+    }
+
+    @Override
+    public int getTeamId(int playerId) {
+        return pageFor(playerId).teamIds.get(playerId & (PAGE_SIZE - 1));
+    }
+
+    @Override
+    public void setTeamId(int playerId, int teamId) {
+        pageFor(playerId).teamIds.set(playerId & (PAGE_SIZE - 1), teamId);
+    }
+
+    @Override
+    public boolean claimTeam(int playerId, int teamId) {
+        return pageFor(playerId).teamIds.compareAndSet(playerId & (PAGE_SIZE - 1), -1, teamId);
+    }
+
+    private Page pageFor(int playerId) {
+        return pages[playerId >>> PAGE_SHIFT];
+    }
+
+    private long appendName(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_NAME_BYTES) {
+            throw new IllegalArgumentException("Name is longer than " + MAX_NAME_BYTES + " bytes");
+        }
+        // Names never straddle two chunks
+        long chunkStart = arenaSize & ~(long) (CHUNK_SIZE - 1);
+        if (arenaSize + bytes.length > chunkStart + CHUNK_SIZE) {
+            arenaSize = chunkStart + CHUNK_SIZE;
+        }
+        int chunkIndex = (int) (arenaSize >>> CHUNK_SHIFT);
+        byte[][] currentChunks = chunks;
+        if (chunkIndex >= currentChunks.length) {
+            currentChunks = Arrays.copyOf(currentChunks, chunkIndex + 1);
+            currentChunks[chunkIndex] = new byte[CHUNK_SIZE];
+            chunks = currentChunks;
+        }
+        System.arraycopy(bytes, 0, currentChunks[chunkIndex], (int) (arenaSize & (CHUNK_SIZE - 1)), bytes.length);
+        long reference = (arenaSize << 16) | bytes.length;
+        arenaSize += bytes.length;
+        return reference;
+    }
+
+    private String readName(long reference) {
+        long offset = reference >>> 16;
+        int length = (int) (reference & MAX_NAME_BYTES);
+        byte[] chunk = chunks[(int) (offset >>> CHUNK_SHIFT)];
+        return new String(chunk, (int) (offset & (CHUNK_SIZE - 1)), length, StandardCharsets.UTF_8);
+    }
+
+    private static class Page {
+        private final long[] firstNameRefs = new long[PAGE_SIZE];
+        private final long[] surnameRefs = new long[PAGE_SIZE];
+        private final int[] positionCodes = new int[PAGE_SIZE];
+        private final AtomicIntegerArray teamIds = new AtomicIntegerArray(PAGE_SIZE);
+    }
+}
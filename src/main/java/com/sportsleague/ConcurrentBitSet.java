@@ -0,0 +1,142 @@
+package com.sportsleague;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Bit set that supports concurrent set/clear without locking. Bits live in fixed-size pages that are
+// never copied, so growing the page table can't lose a concurrent update.
+class ConcurrentBitSet {
+    private static final int PAGE_SHIFT = 16;
+    private static final int BITS_PER_PAGE = 1 << PAGE_SHIFT;
+    private static final int WORDS_PER_PAGE = BITS_PER_PAGE >> 6;
+
+    private volatile AtomicLongArray[] pages;
+
+    ConcurrentBitSet() {
+        this.pages = new AtomicLongArray[1];
+    }
+
+    void set(int bitIndex) {
+        AtomicLongArray page = pageFor(bitIndex);
+        int wordIndex = (bitIndex & (BITS_PER_PAGE - 1)) >> 6;
+        long mask = 1L << bitIndex;
+        long word;
+        do {
+            word = page.get(wordIndex);
+        } while ((word & mask) == 0 && !page.compareAndSet(wordIndex, word, word | mask));
+    }
+
+    // Sets every bit from fromIndex (inclusive) to toIndex (exclusive), a whole word at a time
+    void set(int fromIndex, int toIndex) {
+        int bitIndex = fromIndex;
+        while (bitIndex < toIndex) {
+            AtomicLongArray page = pageFor(bitIndex);
+            int wordIndex = (bitIndex & (BITS_PER_PAGE - 1)) >> 6;
+            int wordEnd = Math.min(toIndex, (bitIndex | 63) + 1);
+            long mask = (-1L << bitIndex) & (-1L >>> (64 - (wordEnd - (bitIndex & ~63))));
+            long word;
+            do {
+                word = page.get(wordIndex);
+            } while ((word & mask) != mask && !page.compareAndSet(wordIndex, word, word | mask));
+            bitIndex = wordEnd;
+        }
+    }
+
+    void clear(int bitIndex) {
+        AtomicLongArray page = pageFor(bitIndex);
+        int wordIndex = (bitIndex & (BITS_PER_PAGE - 1)) >> 6;
+        long mask = 1L << bitIndex;
+        long word;
+        do {
+            word = page.get(wordIndex);
+        } while ((word & mask) != 0 && !page.compareAndSet(wordIndex, word, word & ~mask));
+    }
+
+    boolean get(int bitIndex) {
+        AtomicLongArray[] currentPages = pages;
+        int pageIndex = bitIndex >>> PAGE_SHIFT;
+        if (pageIndex >= currentPages.length || currentPages[pageIndex] == null) {
+            return false;
+        }
+        int wordIndex = (bitIndex & (BITS_PER_PAGE - 1)) >> 6;
+        return (currentPages[pageIndex].get(wordIndex) & (1L << bitIndex)) != 0;
+    }
+
+    // Returns the index of the first set bit at or after fromIndex, or -1 if there is none
+    int nextSetBit(int fromIndex) {
+        AtomicLongArray[] currentPages = pages;
+        for (int pageIndex = fromIndex >>> PAGE_SHIFT; pageIndex < currentPages.length; pageIndex++) {
+            AtomicLongArray page = currentPages[pageIndex];
+            int pageStart = pageIndex << PAGE_SHIFT;
+            if (page == null) {
+                fromIndex = pageStart + BITS_PER_PAGE;
+                continue;
+            }
+            int wordIndex = Math.max(0, (fromIndex - pageStart) >> 6);
+            long word = wordIndex < WORDS_PER_PAGE ? page.get(wordIndex) & (-1L << fromIndex) : 0;
+            while (true) {
+                if (word != 0) {
+                    return pageStart + (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+                }
+                if (++wordIndex == WORDS_PER_PAGE) {
+                    break;
+                }
+                word = page.get(wordIndex);
+            }
+            fromIndex = pageStart + BITS_PER_PAGE;
+        }
+        return -1;
+    }
+
+    // Returns the index of the first bit at or after fromIndex that is set both here and in other, or -1
+    // if there is none. Whole words are compared, so sparse overlaps are skipped 64 bits at a time.
+    int nextSetBitInBoth(ConcurrentBitSet other, int fromIndex) {
+        AtomicLongArray[] currentPages = pages;
+        AtomicLongArray[] otherPages = other.pages;
+        int pageLimit = Math.min(currentPages.length, otherPages.length);
+        for (int pageIndex = fromIndex >>> PAGE_SHIFT; pageIndex < pageLimit; pageIndex++) {
+            AtomicLongArray page = currentPages[pageIndex];
+            AtomicLongArray otherPage = otherPages[pageIndex];
+            int pageStart = pageIndex << PAGE_SHIFT;
+            if (page == null || otherPage == null) {
+                fromIndex = pageStart + BITS_PER_PAGE;
+                continue;
+            }
+            int wordIndex = Math.max(0, (fromIndex - pageStart) >> 6);
+            long word = wordIndex < WORDS_PER_PAGE
+                    ? page.get(wordIndex) & otherPage.get(wordIndex) & (-1L << fromIndex) : 0;
+            while (true) {
+                if (word != 0) {
+                    return pageStart + (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+                }
+                if (++wordIndex == WORDS_PER_PAGE) {
+                    break;
+                }
+                word = page.get(wordIndex) & otherPage.get(wordIndex);
+            }
+            fromIndex = pageStart + BITS_PER_PAGE;
+        }
+        return -1;
+    }
+
+    private AtomicLongArray pageFor(int bitIndex) {
+        AtomicLongArray[] currentPages = pages;
+        int pageIndex = bitIndex >>> PAGE_SHIFT;
+        if (pageIndex < currentPages.length && currentPages[pageIndex] != null) {
+            return currentPages[pageIndex];
+        }
+        return createPage(pageIndex);
+    }
+
+    private synchronized AtomicLongArray createPage(int pageIndex) {
+        AtomicLongArray[] currentPages = pages;
+        if (pageIndex >= currentPages.length) {
+            currentPages = Arrays.copyOf(currentPages, Math.max(currentPages.length * 2, pageIndex + 1));
+        }
+        if (currentPages[pageIndex] == null) {
+            currentPages[pageIndex] = new AtomicLongArray(WORDS_PER_PAGE);
+        }
+        pages = currentPages;
+        return currentPages[pageIndex];
+    }
+}
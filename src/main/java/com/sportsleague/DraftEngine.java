@@ -0,0 +1,175 @@
+package com.sportsleague;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Fills every team's open roster spots from the unassigned pool. The pool is shuffled with the seed,
+// grouped by position, and dealt out round-robin, one player per team with open spots per round, so each
+// team ends up with a similar mix of positions and the same league and seed always give the same rosters.
+// The picks are then applied in parallel, one all-or-nothing batch per range of teams.
+public class DraftEngine {
+    // Picks per batch; ranges with more picks than this are split between fork-join workers
+    private static final int PICKS_PER_TASK = 2048;
+
+    private LeagueManager leagueManager;
+    private ForkJoinPool pool;
+
+    public DraftEngine(LeagueManager leagueManager) {
+        this(leagueManager, ForkJoinPool.commonPool());
+    }
+
+    public DraftEngine(LeagueManager leagueManager, ForkJoinPool pool) {
+        this.leagueManager = leagueManager;
+        this.pool = pool;
+    }
+
+    public DraftResult draft(long seed) {
+        Player[] players = groupByPosition(shuffle(leagueManager.getUnassignedPlayers(), seed));
+        Team[] teams = leagueManager.getAllTeams().toArray(new Team[0]);
+        int[][] picksByTeam = dealPicks(teams, players.length);
+
+        int pickCount = 0;
+        for (int[] picks : picksByTeam) {
+            pickCount += picks.length;
+        }
+        int assignedCount = pickCount == 0 ? 0 : pool.invoke(new AssignTask(teams, picksByTeam, players, 0, teams.length));
+        return new DraftResult(seed, assignedCount, pickCount - assignedCount, players.length - pickCount);
+    }
+
+    private static Player[] shuffle(List<Player> pool, long seed) {
+        Player[] players = pool.toArray(new Player[0]);
+        Random random = new Random(seed);
+        for (int i = players.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Player swapped = players[i];
+            players[i] = players[j];
+            players[j] = swapped;
+        }
+        return players;
+    }
+
+    // Stable counting sort by normalized position, with positions in name order
+    private static Player[] groupByPosition(Player[] players) {
+        int[] positionCodes = new int[players.length];
+        Map<String, Integer> codesByPosition = new TreeMap<>();
+        String[] positions = new String[players.length];
+        for (int i = 0; i < players.length; i++) {
+            positions[i] = LeagueManager.foldCase(players[i].getPosition().trim());
+            codesByPosition.put(positions[i], 0);
+        }
+        int code = 0;
+        for (Map.Entry<String, Integer> entry : codesByPosition.entrySet()) {
+            entry.setValue(code++);
+        }
+
+        int[] starts = new int[code + 1];
+        for (int i = 0; i < players.length; i++) {
+            positionCodes[i] = codesByPosition.get(positions[i]);
+            starts[positionCodes[i] + 1]++;
+        }
+        for (int i = 1; i < starts.length; i++) {
+            starts[i] += starts[i - 1];
+        }
+        Player[] grouped = new Player[players.length];
+        for (int i = 0; i < players.length; i++) {
+            grouped[starts[positionCodes[i]]++] = players[i];
+        }
+        return grouped;
+    }
+
+    // Hands out pool indexes to teams with open spots, one per team per round. Consecutive players share
+    // a position, so each position is spread evenly across the teams.
+    private static int[][] dealPicks(Team[] teams, int poolSize) {
+        int[] openSpots = new int[teams.length];
+        int rounds = 0;
+        for (int t = 0; t < teams.length; t++) {
+            openSpots[t] = Math.max(0, Team.MAX_PLAYERS - teams[t].getPlayerCount());
+            rounds = Math.max(rounds, openSpots[t]);
+        }
+
+        int[][] picksByTeam = new int[teams.length][];
+        int[] pickCounts = new int[teams.length];
+        for (int t = 0; t < teams.length; t++) {
+            picksByTeam[t] = new int[openSpots[t]];
+        }
+        int next = 0;
+        for (int round = 0; round < rounds && next < poolSize; round++) {
+            for (int t = 0; t < teams.length && next < poolSize; t++) {
+                if (round < openSpots[t]) {
+                    picksByTeam[t][pickCounts[t]++] = next++;
+                }
+            }
+        }
+        for (int t = 0; t < teams.length; t++) {
+            if (pickCounts[t] < picksByTeam[t].length) {
+                picksByTeam[t] = Arrays.copyOf(picksByTeam[t], pickCounts[t]);
+            }
+        }
+        return picksByTeam;
+    }
+
+    // Applies the picks of a range of teams and returns how many were assigned. Ranges never share a
+    // team, so the batches lock disjoint rosters and run without contending.
+    // Fork-join tasks are Serializable only by inheritance; these are never serialized
+    @SuppressWarnings("serial")
+    private class AssignTask extends RecursiveTask<Integer> {
+        private final Team[] teams;
+        private final int[][] picksByTeam;
+        private final Player[] players;
+        private final int fromTeam;
+        private final int toTeam;
+
+        AssignTask(Team[] teams, int[][] picksByTeam, Player[] players, int fromTeam, int toTeam) {
+            this.teams = teams;
+            this.picksByTeam = picksByTeam;
+            this.players = players;
+            this.fromTeam = fromTeam;
+            this.toTeam = toTeam;
+        }
+
+        @Override
+        protected Integer compute() {
+            int pickCount = 0;
+            for (int t = fromTeam; t < toTeam; t++) {
+                pickCount += picksByTeam[t].length;
+            }
+            if (pickCount <= PICKS_PER_TASK || toTeam - fromTeam == 1) {
+                return assignRange(pickCount);
+            }
+
+            int middle = (fromTeam + toTeam) >>> 1;
+            AssignTask left = new AssignTask(teams, picksByTeam, players, fromTeam, middle);
+            left.fork();
+            int rightCount = new AssignTask(teams, picksByTeam, players, middle, toTeam).compute();
+            return left.join() + rightCount;
+        }
+
+        private int assignRange(int pickCount) {
+            RosterBatch batch = new RosterBatch();
+            for (int t = fromTeam; t < toTeam; t++) {
+                for (int pick : picksByTeam[t]) {
+                    batch.assign(players[pick].getPlayerId(), teams[t].getTeamId());
+                }
+            }
+            if (leagueManager.applyBatch(batch)) {
+                return pickCount;
+            }
+
+            // Something changed under the draft, so keep whichever picks are still possible
+            int assignedCount = 0;
+            for (int t = fromTeam; t < toTeam; t++) {
+                for (int pick : picksByTeam[t]) {
+                    if (leagueManager.assignPlayerToTeam(players[pick].getPlayerId(), teams[t].getTeamId())) {
+                        assignedCount++;
+                    }
+                }
+            }
+            return assignedCount;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.sportsleague;
+
+public class DraftResult {
+    private final long seed;
+    private final int assignedCount;
+    private final int skippedCount;
+    private final int undraftedCount;
+
+    DraftResult(long seed, int assignedCount, int skippedCount, int undraftedCount) {
+        this.seed = seed;
+        this.assignedCount = assignedCount;
+        this.skippedCount = skippedCount;
+        this.undraftedCount = undraftedCount;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    // Players put on a team by the draft
+    public int getAssignedCount() {
+        return assignedCount;
+    }
+
+    // Picks dropped because the player or the team changed while the draft was running
+    public int getSkippedCount() {
+        return skippedCount;
+    }
+
+    // Players left in the pool because every team was full
+    public int getUndraftedCount() {
+        return undraftedCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DraftResult{seed=%d, assigned=%d, skipped=%d, undrafted=%d}",
+                seed, assignedCount, skippedCount, undraftedCount);
+    }
+}
@@ -0,0 +1,373 @@
+package com.sportsleague;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Typo-tolerant lookup of players by first name and surname. Each distinct lowercased name is stored once,
+// with the ids of every player who has it, at the end of its path in a trie. A search walks the trie
+// carrying one row of the Levenshtein table per letter, which is how a Levenshtein automaton runs: a
+// branch is dropped as soon as every cell of its row is over the edit limit, so only prefixes that could
+// still lead to a close name are visited. Names are also grouped by Soundex code so that misspellings
+// that sound alike ("Jonson", "Johnston") can be found beyond the edit limit.
+class FuzzyNameIndex {
+    // Longer terms tolerate more typos; anything under this many characters must be within one edit
+    private static final int TWO_EDIT_MIN_LENGTH = 5;
+    private static final int SOUNDEX_LENGTH = 4;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final TrieNode root;
+    private final Map<String, List<NameEntry>> entriesBySoundex;
+    // Each player's names, so a candidate can be scored against the other query words without searching
+    private NameEntry[] firstNameEntries;
+    private NameEntry[] surnameEntries;
+    private int nameCount;
+    private int longestName;
+
+    FuzzyNameIndex() {
+        this.root = new TrieNode();
+        this.entriesBySoundex = new HashMap<>();
+        this.firstNameEntries = new NameEntry[INITIAL_CAPACITY];
+        this.surnameEntries = new NameEntry[INITIAL_CAPACITY];
+        this.nameCount = 0;
+        this.longestName = 0;
+    }
+
+    // Players must be added in ascending id order
+    void add(int playerId, String firstName, String surname) {
+        if (playerId >= firstNameEntries.length) {
+            int newCapacity = Math.max(firstNameEntries.length * 2, playerId + 1);
+            firstNameEntries = Arrays.copyOf(firstNameEntries, newCapacity);
+            surnameEntries = Arrays.copyOf(surnameEntries, newCapacity);
+        }
+        NameEntry firstNameEntry = entryFor(firstName.toLowerCase());
+        NameEntry surnameEntry = entryFor(surname.toLowerCase());
+        firstNameEntry.addPlayer(playerId);
+        surnameEntry.addPlayer(playerId);
+        firstNameEntries[playerId] = firstNameEntry;
+        surnameEntries[playerId] = surnameEntry;
+    }
+
+    // Returns the ids of the best matches, best first. Every word of the query has to match one of the
+    // player's names, and a player's score is the sum of each word's edit distance to its closest name.
+    // Phonetic matches beyond the edit limit score one more than the limit. Ties go to the lower id.
+    int[] search(String query, int limit, boolean phonetic) {
+        String[] words = query.toLowerCase().trim().split("\\s+");
+        if (words[0].isEmpty() || limit <= 0) {
+            return new int[0];
+        }
+
+        WordMatches[] matchesByWord = new WordMatches[words.length];
+        for (int w = 0; w < words.length; w++) {
+            matchesByWord[w] = match(words[w], phonetic);
+            if (matchesByWord[w].entries.isEmpty()) {
+                return new int[0];
+            }
+        }
+        if (words.length == 1) {
+            return bestPlayers(matchesByWord[0], limit);
+        }
+
+        // Only players matching the most selective word can match them all
+        WordMatches narrowest = matchesByWord[0];
+        for (WordMatches matches : matchesByWord) {
+            if (matches.playerCount < narrowest.playerCount) {
+                narrowest = matches;
+            }
+        }
+        long[] ranked = new long[narrowest.playerCount];
+        int count = 0;
+        for (NameEntry entry : narrowest.entries) {
+            for (int i = 0; i < entry.playerCount; i++) {
+                int playerId = entry.playerIds[i];
+                // A player whose first name and surname both match is reached twice; score them once
+                if (entry != firstNameEntries[playerId] && narrowest.distanceTo(firstNameEntries[playerId]) >= 0) {
+                    continue;
+                }
+                int score = 0;
+                for (WordMatches matches : matchesByWord) {
+                    int distance = matches.bestDistance(firstNameEntries[playerId], surnameEntries[playerId]);
+                    if (distance < 0) {
+                        score = -1;
+                        break;
+                    }
+                    score += distance;
+                }
+                if (score >= 0) {
+                    // Score in the high bits and id in the low bits, so one sort ranks by score and then by id
+                    ranked[count++] = ((long) score << 32) | playerId;
+                }
+            }
+        }
+        Arrays.sort(ranked, 0, count);
+        int[] playerIds = new int[Math.min(limit, count)];
+        for (int i = 0; i < playerIds.length; i++) {
+            playerIds[i] = (int) ranked[i];
+        }
+        return playerIds;
+    }
+
+    static int maxDistanceFor(String word) {
+        return word.length() < TWO_EDIT_MIN_LENGTH ? 1 : 2;
+    }
+
+    // The names close enough to the word, with their distances
+    private WordMatches match(String word, boolean phonetic) {
+        int maxDistance = maxDistanceFor(word);
+        WordMatches matches = new WordMatches(nameCount);
+        int[][] rows = new int[longestName + 1][word.length() + 1];
+        for (int i = 0; i <= word.length(); i++) {
+            rows[0][i] = i;
+        }
+        collect(root, word, rows, 0, maxDistance, matches);
+        if (phonetic) {
+            String code = soundex(word);
+            List<NameEntry> soundsAlike = code == null ? null : entriesBySoundex.get(code);
+            if (soundsAlike != null) {
+                for (NameEntry entry : soundsAlike) {
+                    matches.add(entry, maxDistance + 1);
+                }
+            }
+        }
+        return matches;
+    }
+
+    // rows[depth] holds the distances from each prefix of the word to the name spelled out so far. Only
+    // the cells within maxDistance of the diagonal can stay within the limit, so the rest are left at
+    // maxDistance + 1.
+    private static void collect(TrieNode node, String word, int[][] rows, int depth, int maxDistance,
+            WordMatches matches) {
+        if (node.childCount == 0) {
+            return;
+        }
+        int length = word.length();
+        int over = maxDistance + 1;
+        int[] previous = rows[depth];
+        int[] current = rows[depth + 1];
+        int from = Math.max(1, depth + 1 - maxDistance);
+        int to = Math.min(length, depth + 1 + maxDistance);
+        current[from - 1] = from == 1 ? Math.min(depth + 1, over) : over;
+        if (to < length) {
+            current[to + 1] = over;
+        }
+        for (int c = 0; c < node.childCount; c++) {
+            char letter = node.labels[c];
+            int rowMinimum = current[from - 1];
+            for (int i = from; i <= to; i++) {
+                int substitution = previous[i - 1] + (word.charAt(i - 1) == letter ? 0 : 1);
+                int cell = Math.min(over, Math.min(substitution, Math.min(previous[i], current[i - 1]) + 1));
+                current[i] = cell;
+                rowMinimum = Math.min(rowMinimum, cell);
+            }
+            TrieNode child = node.children[c];
+            if (child.entry != null && to == length && current[length] <= maxDistance) {
+                matches.add(child.entry, current[length]);
+            }
+            if (rowMinimum <= maxDistance) {
+                collect(child, word, rows, depth + 1, maxDistance, matches);
+            }
+        }
+    }
+
+    // Walks the matches from the closest distance out, merging each distance's id lists in ascending
+    // order, and stops as soon as there are enough players
+    private static int[] bestPlayers(WordMatches matches, int limit) {
+        List<List<NameEntry>> entriesByDistance = new ArrayList<>();
+        for (NameEntry entry : matches.entries) {
+            int distance = matches.distanceTo(entry);
+            while (entriesByDistance.size() <= distance) {
+                entriesByDistance.add(new ArrayList<>());
+            }
+            entriesByDistance.get(distance).add(entry);
+        }
+
+        int[] playerIds = new int[Math.min(limit, matches.playerCount)];
+        int count = 0;
+        Set<Integer> taken = new HashSet<>();
+        for (List<NameEntry> entries : entriesByDistance) {
+            int[] positions = new int[entries.size()];
+            int closerCount = count;
+            while (count < playerIds.length) {
+                int lowest = -1;
+                for (int e = 0; e < entries.size(); e++) {
+                    NameEntry entry = entries.get(e);
+                    if (positions[e] < entry.playerCount
+                            && (lowest < 0 || entry.playerIds[positions[e]] < entries.get(lowest).playerIds[positions[lowest]])) {
+                        lowest = e;
+                    }
+                }
+                if (lowest < 0) {
+                    break;
+                }
+                int playerId = entries.get(lowest).playerIds[positions[lowest]++];
+                // Skips players already placed by a closer name, or by their other name at this distance
+                boolean repeated = count > closerCount && playerIds[count - 1] == playerId;
+                if (!repeated && (closerCount == 0 || !taken.contains(playerId))) {
+                    playerIds[count++] = playerId;
+                    taken.add(playerId);
+                }
+            }
+        }
+        return count == playerIds.length ? playerIds : Arrays.copyOf(playerIds, count);
+    }
+
+    private NameEntry entryFor(String name) {
+        TrieNode node = root;
+        for (int i = 0; i < name.length(); i++) {
+            node = node.childFor(name.charAt(i));
+        }
+        if (node.entry == null) {
+            node.entry = new NameEntry(nameCount++);
+            longestName = Math.max(longestName, name.length());
+            String code = soundex(name);
+            if (code != null) {
+                entriesBySoundex.computeIfAbsent(code, key -> new ArrayList<>()).add(node.entry);
+            }
+        }
+        return node.entry;
+    }
+
+    // American Soundex of the letters a-z in the name, or null if it has none
+    static String soundex(String name) {
+        StringBuilder code = new StringBuilder(SOUNDEX_LENGTH);
+        char lastDigit = 0;
+        for (int i = 0; i < name.length() && code.length() < SOUNDEX_LENGTH; i++) {
+            char c = Character.toLowerCase(name.charAt(i));
+            if (c < 'a' || c > 'z') {
+                continue;
+            }
+            char digit = soundexDigit(c);
+            if (code.length() == 0) {
+                code.append(Character.toUpperCase(c));
+            } else if (digit != '0' && digit != lastDigit) {
+                code.append(digit);
+            }
+            // H and W don't separate letters with the same code; vowels do
+            if (c != 'h' && c != 'w') {
+                lastDigit = digit;
+            }
+        }
+        if (code.length() == 0) {
+            return null;
+        }
+        while (code.length() < SOUNDEX_LENGTH) {
+            code.append('0');
+        }
+        return code.toString();
+    }
+
+    private static char soundexDigit(char c) {
+        switch (c) {
+            case 'b': case 'f': case 'p': case 'v':
+                return '1';
+            case 'c': case 'g': case 'j': case 'k': case 'q': case 's': case 'x': case 'z':
+                return '2';
+            case 'd': case 't':
+                return '3';
+            case 'l':
+                return '4';
+            case 'm': case 'n':
+                return '5';
+            case 'r':
+                return '6';
+            default:
+                return '0';
+        }
+    }
+
+    private static final class TrieNode {
+        private char[] labels;
+        private TrieNode[] children;
+        private int childCount;
+        private NameEntry entry;
+
+        TrieNode() {
+            this.labels = new char[0];
+            this.children = new TrieNode[0];
+            this.childCount = 0;
+            this.entry = null;
+        }
+
+        TrieNode childFor(char label) {
+            for (int i = 0; i < childCount; i++) {
+                if (labels[i] == label) {
+                    return children[i];
+                }
+            }
+            if (childCount == children.length) {
+                int capacity = Math.max(2, childCount * 2);
+                labels = Arrays.copyOf(labels, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            TrieNode child = new TrieNode();
+            labels[childCount] = label;
+            children[childCount++] = child;
+            return child;
+        }
+    }
+
+    // The names matching one query word. Distances are kept by name number, plus one so that zero means
+    // no match, which makes scoring a candidate two array reads.
+    private static final class WordMatches {
+        private final List<NameEntry> entries;
+        private final byte[] distances;
+        private int playerCount;
+
+        WordMatches(int nameCount) {
+            this.entries = new ArrayList<>();
+            this.distances = new byte[nameCount];
+            this.playerCount = 0;
+        }
+
+        // The trie reaches each name once, so only a phonetic match can repeat one, and it is never closer
+        void add(NameEntry entry, int distance) {
+            if (distances[entry.number] == 0) {
+                entries.add(entry);
+                playerCount += entry.playerCount;
+                distances[entry.number] = (byte) (distance + 1);
+            }
+        }
+
+        // Returns -1 if the name doesn't match
+        int distanceTo(NameEntry entry) {
+            return distances[entry.number] - 1;
+        }
+
+        // The closer of a player's two names, or -1 if neither matches
+        int bestDistance(NameEntry firstName, NameEntry surname) {
+            int firstNameDistance = distanceTo(firstName);
+            int surnameDistance = distanceTo(surname);
+            if (firstNameDistance < 0 || surnameDistance < 0) {
+                return Math.max(firstNameDistance, surnameDistance);
+            }
+            return Math.min(firstNameDistance, surnameDistance);
+        }
+    }
+
+    private static final class NameEntry {
+        private final int number;
+        private int[] playerIds;
+        private int playerCount;
+
+        NameEntry(int number) {
+            this.number = number;
+            this.playerIds = new int[1];
+            this.playerCount = 0;
+        }
+
+        void addPlayer(int playerId) {
+            // A player whose first name and surname are the same is listed once
+            if (playerCount > 0 && playerIds[playerCount - 1] == playerId) {
+                return;
+            }
+            if (playerCount == playerIds.length) {
+                playerIds = Arrays.copyOf(playerIds, playerCount * 2);
+            }
+            playerIds[playerCount++] = playerId;
+        }
+    }
+}
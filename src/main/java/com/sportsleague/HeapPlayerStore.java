@@ -0,0 +1,56 @@
+package com.sportsleague;
+
+import java.util.Arrays;
+
+// Default store: one Player object per player in an array indexed by id
+class HeapPlayerStore implements PlayerStore {
+    private static final int INITIAL_CAPACITY = 16;
+
+    // Volatile so that LeagueSnapshot can read players published before it without the registry lock
+    private volatile Player[] playersById;
+    private int size;
+
+    HeapPlayerStore() {
+        this.playersById = new Player[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Player get(int playerId) {
+        return playersById[playerId];
+    }
+
+    @Override
+    public String getFirstName(int playerId) {
+        return playersById[playerId].getFirstName();
+    }
+
+    @Override
+    public String getSurname(int playerId) {
+        return playersById[playerId].getSurname();
+    }
+
+    @Override
+    public String getPosition(int playerId) {
+        return playersById[playerId].getPosition();
+    }
+
+    @Override
+    public Player add(String firstName, String surname, String position) {
+        int playerId = size + 1;
+        Player[] currentPlayers = playersById;
+        if (playerId >= currentPlayers.length) {
+            currentPlayers = Arrays.copyOf(currentPlayers, Math.max(currentPlayers.length + (currentPlayers.length >> 1), playerId + 1));
+        }
+        Player player = new Player(playerId, firstName, surname, position);
+        currentPlayers[playerId] = player;
+        playersById = currentPlayers;
+        size = playerId;
+        return player;
+    }
+}
@@ -0,0 +1,47 @@
+package com.sportsleague;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ImportResult {
+    // Only the first rejections are kept with their reasons, so a bad file can't exhaust memory
+    private static final int MAX_REPORTED_REJECTIONS = 100;
+
+    private long importedCount;
+    private long rejectedCount;
+    private List<String> rejectedRows;
+
+    public ImportResult() {
+        this.importedCount = 0;
+        this.rejectedCount = 0;
+        this.rejectedRows = new ArrayList<>();
+    }
+
+    void recordImported() {
+        importedCount++;
+    }
+
+    void recordRejected(long lineNumber, String reason) {
+        rejectedCount++;
+        if (rejectedRows.size() < MAX_REPORTED_REJECTIONS) {
+            rejectedRows.add("line " + lineNumber + ": " + reason);
+        }
+    }
+
+    public long getImportedCount() {
+        return importedCount;
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public List<String> getRejectedRows() {
+        return new ArrayList<>(rejectedRows);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ImportResult{imported=%d, rejected=%d}", importedCount, rejectedCount);
+    }
+}
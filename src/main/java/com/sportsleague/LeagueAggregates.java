@@ -0,0 +1,131 @@
+package com.sportsleague;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// Running totals behind the statistics screen, updated by a constant amount of work on every registration
+// and roster change so reading them never depends on the number of players. Team and city registrations
+// must hold the registry write lock; a roster change must hold the changed team's roster lock, so each
+// team's own totals have a single writer and only the league-wide ones need atomics.
+class LeagueAggregates {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int[] NO_POSITIONS = new int[0];
+
+    private volatile TeamTotals[] teamsById;
+    // Keyed by case-folded city; iteration follows the order cities were first registered
+    private final Map<String, CityTotals> citiesByKey;
+    // Index n holds the number of teams with exactly n players
+    private final AtomicIntegerArray teamsByRosterSize;
+
+    LeagueAggregates() {
+        this.teamsById = new TeamTotals[INITIAL_CAPACITY];
+        this.citiesByKey = new LinkedHashMap<>();
+        this.teamsByRosterSize = new AtomicIntegerArray(Team.MAX_PLAYERS + 1);
+    }
+
+    void teamRegistered(Team team) {
+        String cityKey = LeagueManager.foldCase(team.getCity().trim());
+        CityTotals city = citiesByKey.get(cityKey);
+        if (city == null) {
+            city = new CityTotals(team.getCity().trim());
+            citiesByKey.put(cityKey, city);
+        }
+        city.teamCount.incrementAndGet();
+
+        TeamTotals[] current = teamsById;
+        if (team.getTeamId() >= current.length) {
+            current = Arrays.copyOf(current, Math.max(current.length * 2, team.getTeamId() + 1));
+        }
+        current[team.getTeamId()] = new TeamTotals(city);
+        teamsById = current;
+        teamsByRosterSize.incrementAndGet(0);
+    }
+
+    void playerAdded(int teamId, int positionCode) {
+        TeamTotals team = teamsById[teamId];
+        int rosterSize = team.rosterSize;
+        team.rosterSize = rosterSize + 1;
+        teamsByRosterSize.decrementAndGet(rosterSize);
+        teamsByRosterSize.incrementAndGet(rosterSize + 1);
+        team.city.playerCount.incrementAndGet();
+
+        int[] counts = team.positionCounts;
+        int[] updated = Arrays.copyOf(counts, Math.max(counts.length, positionCode + 1));
+        updated[positionCode]++;
+        team.positionCounts = updated;
+    }
+
+    void playerRemoved(int teamId, int positionCode) {
+        TeamTotals team = teamsById[teamId];
+        int rosterSize = team.rosterSize;
+        team.rosterSize = rosterSize - 1;
+        teamsByRosterSize.decrementAndGet(rosterSize);
+        teamsByRosterSize.incrementAndGet(rosterSize - 1);
+        team.city.playerCount.decrementAndGet();
+
+        int[] updated = team.positionCounts.clone();
+        updated[positionCode]--;
+        team.positionCounts = updated;
+    }
+
+    int getFullTeamCount() {
+        return teamsByRosterSize.get(Team.MAX_PLAYERS);
+    }
+
+    int[] getTeamsByRosterSize() {
+        int[] counts = new int[teamsByRosterSize.length()];
+        for (int size = 0; size < counts.length; size++) {
+            counts[size] = teamsByRosterSize.get(size);
+        }
+        return counts;
+    }
+
+    // Player counts by position code; codes past the end of the array have no players on the team
+    int[] getPositionCounts(int teamId) {
+        return teamsById[teamId].positionCounts;
+    }
+
+    Map<String, Integer> getTeamsByCity() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (CityTotals city : citiesByKey.values()) {
+            counts.put(city.name, city.teamCount.get());
+        }
+        return counts;
+    }
+
+    Map<String, Integer> getPlayersByCity() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (CityTotals city : citiesByKey.values()) {
+            counts.put(city.name, city.playerCount.get());
+        }
+        return counts;
+    }
+
+    private static final class TeamTotals {
+        private final CityTotals city;
+        private volatile int rosterSize;
+        // Copy-on-write, so readers see a whole array without the team's lock
+        private volatile int[] positionCounts;
+
+        TeamTotals(CityTotals city) {
+            this.city = city;
+            this.rosterSize = 0;
+            this.positionCounts = NO_POSITIONS;
+        }
+    }
+
+    private static final class CityTotals {
+        private final String name;
+        private final AtomicInteger teamCount;
+        private final AtomicInteger playerCount;
+
+        CityTotals(String name) {
+            this.name = name;
+            this.teamCount = new AtomicInteger();
+            this.playerCount = new AtomicInteger();
+        }
+    }
+}
@@ -0,0 +1,425 @@
+package com.sportsleague;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// Runs one-line league commands without prompts, for scripts and pipes. Arguments are separated by
+// whitespace; double quotes group an argument that contains spaces, and \" or \\ inside quotes escape.
+// Each command writes "OK ..." or "ERROR ..."; a listing writes "OK <count>" followed by that many lines,
+// so a client always knows where the reply ends, even when it is empty. Blank lines and lines starting
+// with # are ignored. An interpreter keeps per-stream state, so use one per
+// input rather than sharing it between threads; the league itself can be shared.
+public class LeagueCommandInterpreter {
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+    private static final int FUZZY_SEARCH_LIMIT = 10;
+    private static final int COMPLETION_LIMIT = 10;
+    private static final String HELP =
+            "team <name> <city>\n"
+            + "player <firstName> <surname> <position>\n"
+            + "assign <playerId> <teamId>\n"
+            + "remove <playerId>\n"
+            + "transfer <playerId> <teamId>\n"
+            + "teams | players | unassigned | roster <teamId> | search <term> | fuzzy <name>\n"
+            + "complete teams|players <prefix>\n"
+            + "positions | position <position> [unassigned|<teamId>]\n"
+            + "draft <seed>\n"
+            + "stats\n"
+            + "import teams|players <file>\n"
+            + "quit\n";
+    private static final int HELP_LINES = HELP.split("\n").length;
+
+    private LeagueManager leagueManager;
+    // Off for network clients, which must not read files on the server
+    private boolean fileAccessAllowed;
+    private List<String> arguments;
+    private long commandCount;
+    private long errorCount;
+
+    public LeagueCommandInterpreter(LeagueManager leagueManager) {
+        this(leagueManager, true);
+    }
+
+    public LeagueCommandInterpreter(LeagueManager leagueManager, boolean fileAccessAllowed) {
+        this.leagueManager = leagueManager;
+        this.fileAccessAllowed = fileAccessAllowed;
+        this.arguments = new ArrayList<>();
+        this.commandCount = 0;
+        this.errorCount = 0;
+    }
+
+    // Executes every command from input until it ends or a quit command, writing all output through one
+    // buffered writer. The writer is flushed whenever the input has no more commands buffered, so a client
+    // that sends many commands at once gets all their replies in one write, and it is not closed. A line
+    // longer than BoundedLineReader.MAX_LINE_LENGTH is reported as an error and ends the run.
+    public void run(Reader input, Writer output) throws IOException {
+        BoundedLineReader reader = input instanceof BoundedLineReader ? (BoundedLineReader) input : new BoundedLineReader(input, OUTPUT_BUFFER_SIZE);
+        BufferedWriter writer = output instanceof BufferedWriter ? (BufferedWriter) output : new BufferedWriter(output, OUTPUT_BUFFER_SIZE);
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!execute(line, writer)) {
+                    break;
+                }
+                if (!reader.ready()) {
+                    writer.flush();
+                }
+            }
+            if (reader.isLineTooLong()) {
+                commandCount++;
+                error(writer, "line is longer than " + BoundedLineReader.MAX_LINE_LENGTH + " characters");
+            }
+        } finally {
+            writer.flush();
+        }
+    }
+
+    // Executes a single command line; returns false if it asked to quit
+    public boolean execute(String line, Appendable out) throws IOException {
+        if (!tokenize(line, arguments)) {
+            commandCount++;
+            error(out, "unterminated quote");
+            return true;
+        }
+        if (arguments.isEmpty() || arguments.get(0).startsWith("#")) {
+            return true;
+        }
+        commandCount++;
+
+        String command = arguments.get(0);
+        switch (command) {
+            case "team":
+                registerTeam(out);
+                return true;
+            case "player":
+                registerPlayer(out);
+                return true;
+            case "assign":
+                assignPlayerToTeam(out);
+                return true;
+            case "remove":
+                removePlayerFromTeam(out);
+                return true;
+            case "transfer":
+                transferPlayer(out);
+                return true;
+            case "teams":
+                if (expectArguments(0, "teams", out)) {
+                    printTeams(leagueManager.getAllTeams(), out);
+                }
+                return true;
+            case "players":
+                if (expectArguments(0, "players", out)) {
+                    printPlayers(leagueManager.getAllPlayers(), out);
+                }
+                return true;
+            case "unassigned":
+                if (expectArguments(0, "unassigned", out)) {
+                    printPlayers(leagueManager.getUnassignedPlayers(), out);
+                }
+                return true;
+            case "roster":
+                viewTeamRoster(out);
+                return true;
+            case "search":
+                if (expectArguments(1, "search <term>", out)) {
+                    printPlayers(leagueManager.searchPlayersByName(arguments.get(1)), out);
+                }
+                return true;
+            case "fuzzy":
+                if (expectArguments(1, "fuzzy <name>", out)) {
+                    printPlayers(leagueManager.searchPlayersFuzzy(arguments.get(1), FUZZY_SEARCH_LIMIT), out);
+                }
+                return true;
+            case "complete":
+                complete(out);
+                return true;
+            case "positions":
+                if (expectArguments(0, "positions", out)) {
+                    Map<String, Integer> unassignedCounts = leagueManager.countUnassignedPlayersByPosition();
+                    Map<String, Integer> playerCounts = leagueManager.countPlayersByPosition();
+                    printCount(playerCounts.size(), out);
+                    for (Map.Entry<String, Integer> entry : playerCounts.entrySet()) {
+                        out.append(entry.getKey()).append(" players=").append(String.valueOf(entry.getValue()))
+                                .append(" unassigned=").append(String.valueOf(unassignedCounts.getOrDefault(entry.getKey(), 0)))
+                                .append('\n');
+                    }
+                }
+                return true;
+            case "position":
+                viewPlayersByPosition(out);
+                return true;
+            case "stats":
+                if (expectArguments(0, "stats", out)) {
+                    LeagueStatistics statistics = leagueManager.getStatistics();
+                    out.append("OK teams=").append(String.valueOf(statistics.getTotalTeams()))
+                            .append(" players=").append(String.valueOf(statistics.getTotalPlayers()))
+                            .append(" assigned=").append(String.valueOf(statistics.getAssignedPlayers()))
+                            .append(" unassigned=").append(String.valueOf(statistics.getUnassignedPlayers()))
+                            .append(" full=").append(String.valueOf(statistics.getFullTeams()))
+                            .append('\n');
+                }
+                return true;
+            case "draft":
+                draft(out);
+                return true;
+            case "import":
+                importFromCsv(out);
+                return true;
+            case "help":
+                printCount(HELP_LINES, out);
+                out.append(HELP);
+                return true;
+            case "quit":
+            case "exit":
+                return false;
+            default:
+                error(out, "unknown command '" + command + "'");
+                return true;
+        }
+    }
+
+    public long getCommandCount() {
+        return commandCount;
+    }
+
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    private void registerTeam(Appendable out) throws IOException {
+        if (!expectArguments(2, "team <name> <city>", out)) {
+            return;
+        }
+        Team team = leagueManager.registerTeam(arguments.get(1), arguments.get(2));
+        if (team == null) {
+            error(out, "team name is invalid or already exists");
+        } else {
+            out.append("OK team ").append(String.valueOf(team.getTeamId())).append('\n');
+        }
+    }
+
+    private void registerPlayer(Appendable out) throws IOException {
+        if (!expectArguments(3, "player <firstName> <surname> <position>", out)) {
+            return;
+        }
+        Player player = leagueManager.registerPlayer(arguments.get(1), arguments.get(2), arguments.get(3));
+        out.append("OK player ").append(String.valueOf(player.getPlayerId())).append('\n');
+    }
+
+    private void assignPlayerToTeam(Appendable out) throws IOException {
+        if (!expectArguments(2, "assign <playerId> <teamId>", out)) {
+            return;
+        }
+        int playerId = parseId(arguments.get(1));
+        int teamId = parseId(arguments.get(2));
+        if (playerId < 0 || teamId < 0) {
+            error(out, "ids must be numbers");
+        } else if (leagueManager.assignPlayerToTeam(playerId, teamId)) {
+            out.append("OK\n");
+        } else {
+            error(out, "could not assign player " + playerId + " to team " + teamId);
+        }
+    }
+
+    private void removePlayerFromTeam(Appendable out) throws IOException {
+        if (!expectArguments(1, "remove <playerId>", out)) {
+            return;
+        }
+        int playerId = parseId(arguments.get(1));
+        if (playerId < 0) {
+            error(out, "ids must be numbers");
+        } else if (leagueManager.removePlayerFromTeam(playerId)) {
+            out.append("OK\n");
+        } else {
+            error(out, "player " + playerId + " is not on a team");
+        }
+    }
+
+    private void transferPlayer(Appendable out) throws IOException {
+        if (!expectArguments(2, "transfer <playerId> <teamId>", out)) {
+            return;
+        }
+        int playerId = parseId(arguments.get(1));
+        int teamId = parseId(arguments.get(2));
+        if (playerId < 0 || teamId < 0) {
+            error(out, "ids must be numbers");
+        } else if (leagueManager.transferPlayer(playerId, teamId)) {
+            out.append("OK\n");
+        } else {
+            error(out, "could not transfer player " + playerId + " to team " + teamId);
+        }
+    }
+
+    private void viewTeamRoster(Appendable out) throws IOException {
+        if (!expectArguments(1, "roster <teamId>", out)) {
+            return;
+        }
+        int teamId = parseId(arguments.get(1));
+        Team team = teamId < 0 ? null : leagueManager.findTeamById(teamId);
+        if (team == null) {
+            error(out, "team not found");
+        } else {
+            printPlayers(team.getRoster(), out);
+        }
+    }
+
+    private void draft(Appendable out) throws IOException {
+        if (!expectArguments(1, "draft <seed>", out)) {
+            return;
+        }
+        int seed = parseId(arguments.get(1));
+        if (seed < 0) {
+            error(out, "seed must be a number");
+            return;
+        }
+        DraftResult result = new DraftEngine(leagueManager).draft(seed);
+        out.append("OK assigned=").append(String.valueOf(result.getAssignedCount()))
+                .append(" skipped=").append(String.valueOf(result.getSkippedCount()))
+                .append(" undrafted=").append(String.valueOf(result.getUndraftedCount())).append('\n');
+    }
+
+    private void viewPlayersByPosition(Appendable out) throws IOException {
+        if (arguments.size() != 2 && arguments.size() != 3) {
+            error(out, "usage: position <position> [unassigned|<teamId>]");
+            return;
+        }
+        String position = arguments.get(1);
+        if (arguments.size() == 2) {
+            printPlayers(leagueManager.getPlayersByPosition(position), out);
+        } else if (arguments.get(2).equals("unassigned")) {
+            printPlayers(leagueManager.getUnassignedPlayersByPosition(position), out);
+        } else {
+            int teamId = parseId(arguments.get(2));
+            if (teamId < 0 || leagueManager.findTeamById(teamId) == null) {
+                error(out, "team not found");
+            } else {
+                printPlayers(leagueManager.getPlayersByPosition(position, teamId), out);
+            }
+        }
+    }
+
+    private void complete(Appendable out) throws IOException {
+        if (!expectArguments(2, "complete teams|players <prefix>", out)) {
+            return;
+        }
+        String kind = arguments.get(1);
+        if (kind.equals("teams")) {
+            printTeams(leagueManager.completeTeamNames(arguments.get(2), COMPLETION_LIMIT), out);
+        } else if (kind.equals("players")) {
+            printPlayers(leagueManager.completePlayerNames(arguments.get(2), COMPLETION_LIMIT), out);
+        } else {
+            error(out, "usage: complete teams|players <prefix>");
+        }
+    }
+
+    private void importFromCsv(Appendable out) throws IOException {
+        if (!expectArguments(2, "import teams|players <file>", out)) {
+            return;
+        }
+        if (!fileAccessAllowed) {
+            error(out, "import is not available here");
+            return;
+        }
+        String kind = arguments.get(1);
+        if (!kind.equals("teams") && !kind.equals("players")) {
+            error(out, "usage: import teams|players <file>");
+            return;
+        }
+        Path file = Paths.get(arguments.get(2));
+        LeagueImporter importer = new LeagueImporter(leagueManager);
+        try {
+            ImportResult result = kind.equals("teams") ? importer.importTeams(file) : importer.importPlayers(file);
+            out.append("OK imported=").append(String.valueOf(result.getImportedCount()))
+                    .append(" rejected=").append(String.valueOf(result.getRejectedCount())).append('\n');
+        } catch (IOException e) {
+            error(out, "could not read file: " + e.getMessage());
+        }
+    }
+
+    private static void printTeams(List<Team> teams, Appendable out) throws IOException {
+        printCount(teams.size(), out);
+        for (Team team : teams) {
+            out.append(team.toString()).append('\n');
+        }
+    }
+
+    private static void printPlayers(List<Player> players, Appendable out) throws IOException {
+        printCount(players.size(), out);
+        for (Player player : players) {
+            out.append(player.toString()).append('\n');
+        }
+    }
+
+    // The header line of a listing
+    private static void printCount(int count, Appendable out) throws IOException {
+        out.append("OK ").append(String.valueOf(count)).append('\n');
+    }
+
+    private boolean expectArguments(int count, String usage, Appendable out) throws IOException {
+        if (arguments.size() - 1 != count) {
+            error(out, "usage: " + usage);
+            return false;
+        }
+        return true;
+    }
+
+    private void error(Appendable out, String message) throws IOException {
+        errorCount++;
+        out.append("ERROR ").append(message).append('\n');
+    }
+
+    // Returns -1 for anything that isn't a non-negative int
+    private static int parseId(String value) {
+        if (value.isEmpty() || value.length() > 10) {
+            return -1;
+        }
+        long id = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            id = id * 10 + (c - '0');
+        }
+        return id > Integer.MAX_VALUE ? -1 : (int) id;
+    }
+
+    // Splits a line into arguments; returns false if a quote is left open
+    static boolean tokenize(String line, List<String> tokens) {
+        tokens.clear();
+        StringBuilder token = new StringBuilder();
+        int i = 0;
+        while (i < line.length()) {
+            while (i < line.length() && Character.isWhitespace(line.charAt(i))) {
+                i++;
+            }
+            if (i == line.length()) {
+                break;
+            }
+            token.setLength(0);
+            boolean quoted = false;
+            while (i < line.length() && (quoted || !Character.isWhitespace(line.charAt(i)))) {
+                char c = line.charAt(i++);
+                if (c == '"') {
+                    quoted = !quoted;
+                } else if (quoted && c == '\\' && i < line.length() && (line.charAt(i) == '"' || line.charAt(i) == '\\')) {
+                    token.append(line.charAt(i++));
+                } else {
+                    token.append(c);
+                }
+            }
+            if (quoted) {
+                return false;
+            }
+            tokens.add(token.toString());
+        }
+        return true;
+    }
+}
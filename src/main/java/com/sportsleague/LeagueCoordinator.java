@@ -0,0 +1,229 @@
+package com.sportsleague;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntFunction;
+
+// Runs several divisions, each in its own LeagueManager, as one league. A division's teams and players
+// never share locks or indexes with another's, so work on different divisions scales with cores.
+//
+// Ids are unique across the whole league without any shared counter: a division numbers its teams and
+// players 1, 2, 3... as usual, and division d of n turns local id k into (k - 1) * n + d + 1. Every id
+// returned here is such a global id, and Players are detached copies carrying global ids, the same way
+// LeagueSnapshot returns them. Players can only join teams of their own division. A division stops taking
+// registrations once its next global id would not fit in an int.
+public class LeagueCoordinator implements AutoCloseable {
+    private final List<String> divisionNames;
+    private final LeagueManager[] divisions;
+    private final Map<String, Integer> divisionIndexes;
+    private final ForkJoinPool pool;
+
+    public LeagueCoordinator(List<String> divisionNames) {
+        this(divisionNames, StorageEngine.HEAP, ForkJoinPool.commonPool());
+    }
+
+    public LeagueCoordinator(List<String> divisionNames, StorageEngine storageEngine, ForkJoinPool pool) {
+        if (divisionNames.isEmpty()) {
+            throw new IllegalArgumentException("At least one division is required");
+        }
+        this.divisionNames = new ArrayList<>(divisionNames);
+        this.divisions = new LeagueManager[divisionNames.size()];
+        this.divisionIndexes = new HashMap<>();
+        for (int i = 0; i < divisions.length; i++) {
+            if (divisionIndexes.put(LeagueManager.foldCase(divisionNames.get(i).trim()), i) != null) {
+                throw new IllegalArgumentException("Duplicate division: " + divisionNames.get(i));
+            }
+            this.divisions[i] = new LeagueManager(storageEngine);
+        }
+        this.pool = pool;
+    }
+
+    public List<String> getDivisions() {
+        return new ArrayList<>(divisionNames);
+    }
+
+    // The division's own league, which uses local ids
+    public LeagueManager getDivision(String division) {
+        int index = divisionIndex(division);
+        return index < 0 ? null : divisions[index];
+    }
+
+    // Returns the new team's global id, or -1 for an unknown or full division or a name the division already has
+    public int registerTeam(String division, String teamName, String city) {
+        int index = divisionIndex(division);
+        if (index < 0 || divisions[index].getNextTeamId() > maxLocalId(index)) {
+            return -1;
+        }
+        Team team = divisions[index].registerTeam(teamName, city);
+        return team == null ? -1 : toGlobalId(team.getTeamId(), index);
+    }
+
+    // Returns the new player's global id, or -1 for an unknown or full division
+    public int registerPlayer(String division, String firstName, String surname, String position) {
+        int index = divisionIndex(division);
+        if (index < 0 || divisions[index].getNextPlayerId() > maxLocalId(index)) {
+            return -1;
+        }
+        return toGlobalId(divisions[index].registerPlayer(firstName, surname, position).getPlayerId(), index);
+    }
+
+    public boolean assignPlayerToTeam(int playerId, int teamId) {
+        if (playerId < 1 || teamId < 1 || divisionOf(playerId) != divisionOf(teamId)) {
+            return false;
+        }
+        return divisions[divisionOf(playerId)].assignPlayerToTeam(toLocalId(playerId), toLocalId(teamId));
+    }
+
+    public boolean removePlayerFromTeam(int playerId) {
+        return playerId >= 1 && divisions[divisionOf(playerId)].removePlayerFromTeam(toLocalId(playerId));
+    }
+
+    public boolean transferPlayer(int playerId, int teamId) {
+        if (playerId < 1 || teamId < 1 || divisionOf(playerId) != divisionOf(teamId)) {
+            return false;
+        }
+        return divisions[divisionOf(playerId)].transferPlayer(toLocalId(playerId), toLocalId(teamId));
+    }
+
+    public Player findPlayerById(int playerId) {
+        if (playerId < 1) {
+            return null;
+        }
+        int index = divisionOf(playerId);
+        Player player = divisions[index].findPlayerById(toLocalId(playerId));
+        return player == null ? null : globalCopy(player, index);
+    }
+
+    // The name of the division that owns a team or player id, or null for an invalid id
+    public String getDivisionOf(int id) {
+        return id < 1 ? null : divisionNames.get(divisionOf(id));
+    }
+
+    public List<Player> searchPlayersByName(String name) {
+        return mergePlayers(fanOut(index -> globalCopies(divisions[index].searchPlayersByName(name), index)));
+    }
+
+    public List<Player> getUnassignedPlayers() {
+        return mergePlayers(fanOut(index -> globalCopies(divisions[index].getUnassignedPlayers(), index)));
+    }
+
+    public int getTotalTeams() {
+        return sum(fanOut(index -> divisions[index].getTotalTeams()));
+    }
+
+    public int getTotalPlayers() {
+        return sum(fanOut(index -> divisions[index].getTotalPlayers()));
+    }
+
+    public int getAssignedPlayers() {
+        return sum(fanOut(index -> divisions[index].getAssignedPlayers()));
+    }
+
+    public int getUnassignedPlayerCount() {
+        return sum(fanOut(index -> divisions[index].getUnassignedPlayerCount()));
+    }
+
+    @Override
+    public void close() {
+        for (LeagueManager division : divisions) {
+            division.close();
+        }
+    }
+
+    // Runs the query on every division at once and returns the results in division order. The calling
+    // thread takes the first division itself rather than waiting idle.
+    private <T> List<T> fanOut(IntFunction<T> query) {
+        List<ForkJoinTask<T>> tasks = new ArrayList<>(divisions.length - 1);
+        for (int i = 1; i < divisions.length; i++) {
+            int index = i;
+            tasks.add(pool.submit(() -> query.apply(index)));
+        }
+        List<T> results = new ArrayList<>(divisions.length);
+        results.add(query.apply(0));
+        for (ForkJoinTask<T> task : tasks) {
+            results.add(task.join());
+        }
+        return results;
+    }
+
+    // Players from every division in global id order. Each division's list is already in id order, so they
+    // are merged by repeatedly taking the smallest head, with the heads kept in a heap.
+    private static List<Player> mergePlayers(List<List<Player>> playersByDivision) {
+        int total = 0;
+        for (List<Player> players : playersByDivision) {
+            total += players.size();
+        }
+        List<Player> merged = new ArrayList<>(total);
+        int[] positions = new int[playersByDivision.size()];
+        PriorityQueue<Integer> heads = new PriorityQueue<>(Math.max(1, positions.length),
+                Comparator.comparingInt(index -> playersByDivision.get(index).get(positions[index]).getPlayerId()));
+        for (int index = 0; index < positions.length; index++) {
+            if (!playersByDivision.get(index).isEmpty()) {
+                heads.add(index);
+            }
+        }
+        while (!heads.isEmpty()) {
+            int index = heads.poll();
+            List<Player> players = playersByDivision.get(index);
+            merged.add(players.get(positions[index]++));
+            if (positions[index] < players.size()) {
+                heads.add(index);
+            }
+        }
+        return merged;
+    }
+
+    // Copied inside each division's task, so the copying is spread across the pool too
+    private List<Player> globalCopies(List<Player> players, int index) {
+        List<Player> copies = new ArrayList<>(players.size());
+        for (Player player : players) {
+            copies.add(globalCopy(player, index));
+        }
+        return copies;
+    }
+
+    private static int sum(List<Integer> counts) {
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    private Player globalCopy(Player player, int index) {
+        Player copy = new Player(toGlobalId(player.getPlayerId(), index), player.getFirstName(), player.getSurname(),
+                player.getPosition());
+        int teamId = player.getTeamId();
+        copy.setTeamId(teamId == -1 ? -1 : toGlobalId(teamId, index));
+        return copy;
+    }
+
+    private int divisionIndex(String division) {
+        Integer index = divisionIndexes.get(LeagueManager.foldCase(division.trim()));
+        return index == null ? -1 : index;
+    }
+
+    // Throws ArithmeticException if the global id would not fit, which registrations check for up front
+    private int toGlobalId(int localId, int index) {
+        return Math.addExact(Math.multiplyExact(localId - 1, divisions.length), index + 1);
+    }
+
+    // The largest local id of the division whose global id still fits in an int
+    private int maxLocalId(int index) {
+        return (Integer.MAX_VALUE - index - 1) / divisions.length + 1;
+    }
+
+    private int toLocalId(int globalId) {
+        return (globalId - 1) / divisions.length + 1;
+    }
+
+    private int divisionOf(int globalId) {
+        return (globalId - 1) % divisions.length;
+    }
+}
@@ -0,0 +1,7 @@
+package com.sportsleague;
+
+// Receives events from LeagueEventSubscription.poll. The arguments are primitives so that delivering an
+// event allocates nothing; playerId is -1 for TEAM_REGISTERED and teamId is -1 for PLAYER_REGISTERED.
+public interface LeagueEventHandler {
+    void onEvent(long sequence, LeagueEventType type, int playerId, int teamId);
+}
@@ -0,0 +1,111 @@
+package com.sportsleague;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Fixed ring of league events, allocated once as parallel primitive arrays. Mutations arrive from many
+// threads at once (each team has its own lock), so a writer claims the next sequence with one atomic
+// increment instead of relying on a single writer, then fills the slot and publishes it by storing its
+// sequence. Writers never look at readers: a reader that falls a whole ring behind finds its slots
+// overwritten and skips ahead, counting what it missed.
+class LeagueEventRing implements LeagueMutationListener {
+    private static final LeagueEventType[] TYPES = LeagueEventType.values();
+    // Stored in a slot's sequence while its event is being written
+    private static final long WRITING = Long.MIN_VALUE;
+
+    private final int mask;
+    private final byte[] types;
+    private final int[] playerIds;
+    private final int[] teamIds;
+    private final AtomicLongArray sequences;
+    private final AtomicLong nextSequence;
+
+    LeagueEventRing(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.types = new byte[capacity];
+        this.playerIds = new int[capacity];
+        this.teamIds = new int[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        // Each slot starts out as if it held the event one lap before its first one
+        for (int i = 0; i < capacity; i++) {
+            this.sequences.set(i, i - (long) capacity);
+        }
+        this.nextSequence = new AtomicLong();
+    }
+
+    @Override
+    public void teamRegistered(Team team) {
+        publish(LeagueEventType.TEAM_REGISTERED, -1, team.getTeamId());
+    }
+
+    @Override
+    public void playerRegistered(Player player) {
+        publish(LeagueEventType.PLAYER_REGISTERED, player.getPlayerId(), -1);
+    }
+
+    @Override
+    public void playerAssigned(Player player, Team team) {
+        publish(LeagueEventType.PLAYER_ASSIGNED, player.getPlayerId(), team.getTeamId());
+    }
+
+    @Override
+    public void playerRemoved(Player player, Team team) {
+        publish(LeagueEventType.PLAYER_REMOVED, player.getPlayerId(), team.getTeamId());
+    }
+
+    void publish(LeagueEventType type, int playerId, int teamId) {
+        long sequence = nextSequence.getAndIncrement();
+        int index = (int) sequence & mask;
+        // Only waits if another writer claimed this slot a whole lap earlier and hasn't finished yet
+        long previous = sequence - (mask + 1);
+        while (sequences.get(index) != previous) {
+            Thread.onSpinWait();
+        }
+        sequences.set(index, WRITING);
+        // A volatile store only orders the writes before it, so without this the plain writes below could
+        // become visible before WRITING and a reader could copy a half-written slot that still looks valid
+        VarHandle.storeStoreFence();
+        types[index] = (byte) type.ordinal();
+        playerIds[index] = playerId;
+        teamIds[index] = teamId;
+        sequences.set(index, sequence);
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    // The sequence the next event will get
+    long nextSequence() {
+        return nextSequence.get();
+    }
+
+    int indexOf(long sequence) {
+        return (int) sequence & mask;
+    }
+
+    // The sequence of the event in the slot, or WRITING while one is being written
+    long publishedSequence(int index) {
+        return sequences.get(index);
+    }
+
+    LeagueEventType typeAt(int index) {
+        return TYPES[types[index]];
+    }
+
+    int playerIdAt(int index) {
+        return playerIds[index];
+    }
+
+    int teamIdAt(int index) {
+        return teamIds[index];
+    }
+
+    static boolean isWriting(long publishedSequence) {
+        return publishedSequence == WRITING;
+    }
+}
@@ -0,0 +1,77 @@
+package com.sportsleague;
+
+import java.lang.invoke.VarHandle;
+
+// One consumer's position in a league's event stream, starting with the first event after it subscribed.
+// Polling hands events to the handler straight from the ring, so it allocates nothing. Writers never wait
+// for a subscription: one that falls a whole ring behind skips the events it lost and counts them in
+// getMissedEvents. A subscription is meant to be polled by one thread at a time.
+public class LeagueEventSubscription {
+    private final LeagueEventRing ring;
+    private long nextSequence;
+    private long missedEvents;
+
+    LeagueEventSubscription(LeagueEventRing ring) {
+        this.ring = ring;
+        this.nextSequence = ring.nextSequence();
+        this.missedEvents = 0;
+    }
+
+    // Delivers up to maxEvents events in order and returns how many were delivered; returns 0 when the
+    // subscription has caught up with the league
+    public int poll(LeagueEventHandler handler, int maxEvents) {
+        int delivered = 0;
+        while (delivered < maxEvents) {
+            long sequence = nextSequence;
+            int index = ring.indexOf(sequence);
+            long published = ring.publishedSequence(index);
+            if (published != sequence) {
+                if (published > sequence || LeagueEventRing.isWriting(published) && isLapped(sequence)) {
+                    skipLostEvents(sequence);
+                    continue;
+                }
+                break; // Not written yet
+            }
+
+            LeagueEventType type = ring.typeAt(index);
+            int playerId = ring.playerIdAt(index);
+            int teamId = ring.teamIdAt(index);
+            // The slot may have been reused while it was copied, so check it still holds this sequence
+            VarHandle.acquireFence();
+            if (ring.publishedSequence(index) != sequence) {
+                skipLostEvents(sequence);
+                continue;
+            }
+            nextSequence = sequence + 1;
+            delivered++;
+            handler.onEvent(sequence, type, playerId, teamId);
+        }
+        return delivered;
+    }
+
+    // The sequence of the next event this subscription will deliver
+    public long getNextSequence() {
+        return nextSequence;
+    }
+
+    // Events overwritten before this subscription could read them
+    public long getMissedEvents() {
+        return missedEvents;
+    }
+
+    // Events written to the league's stream that this subscription hasn't polled yet, lost ones included
+    public long getLag() {
+        return ring.nextSequence() - nextSequence;
+    }
+
+    private boolean isLapped(long sequence) {
+        return ring.nextSequence() - sequence > ring.capacity();
+    }
+
+    // Jumps half a ring behind the writers, so a slow reader has room before it is lapped again
+    private void skipLostEvents(long sequence) {
+        long resumeAt = Math.max(sequence + 1, ring.nextSequence() - ring.capacity() / 2);
+        missedEvents += resumeAt - sequence;
+        nextSequence = resumeAt;
+    }
+}
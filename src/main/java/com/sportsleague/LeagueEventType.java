@@ -0,0 +1,8 @@
+package com.sportsleague;
+
+public enum LeagueEventType {
+    TEAM_REGISTERED,
+    PLAYER_REGISTERED,
+    PLAYER_ASSIGNED,
+    PLAYER_REMOVED
+}
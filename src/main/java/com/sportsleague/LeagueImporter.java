@@ -0,0 +1,166 @@
+package com.sportsleague;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+// Bulk-loads teams and players from CSV files. Rows are streamed from disk and registered in batches,
+// so memory stays bounded however large the file is.
+//   teams:   teamName,city
+//   players: firstName,surname,position[,teamName]
+// A leading header row with those column names is skipped, as are blank lines. Quoted fields may span
+// lines in CSV, but rows with a line break in a field are rejected, since every name must print on one line.
+public class LeagueImporter {
+    private static final int BATCH_SIZE = 10_000;
+    private static final String LINE_BREAK_REJECTION = "fields cannot contain line breaks";
+
+    private LeagueManager leagueManager;
+
+    public LeagueImporter(LeagueManager leagueManager) {
+        this.leagueManager = leagueManager;
+    }
+
+    public ImportResult importTeams(Path file) throws IOException {
+        return importFile(file, new String[]{"teamname", "city"}, this::importTeamRow);
+    }
+
+    public ImportResult importPlayers(Path file) throws IOException {
+        return importFile(file, new String[]{"firstname", "surname", "position"}, this::importPlayerRow);
+    }
+
+    private ImportResult importFile(Path file, String[] header, RowHandler handler) throws IOException {
+        ImportResult result = new ImportResult();
+        List<String[]> batch = new ArrayList<>(BATCH_SIZE);
+        long[] lineNumbers = new long[BATCH_SIZE];
+
+        try (CsvReader reader = new CsvReader(FileChannel.open(file, StandardOpenOption.READ))) {
+            List<String> fields = new ArrayList<>();
+            boolean firstRow = true;
+            while (reader.readRow(fields)) {
+                if (fields.size() == 1 && fields.get(0).isBlank()) {
+                    continue;
+                }
+                if (firstRow) {
+                    firstRow = false;
+                    if (isHeader(fields, header)) {
+                        continue;
+                    }
+                }
+
+                String[] row = new String[fields.size()];
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = fields.get(i).trim();
+                }
+                lineNumbers[batch.size()] = reader.getLineNumber();
+                batch.add(row);
+                if (batch.size() == BATCH_SIZE) {
+                    registerBatch(batch, lineNumbers, handler, result);
+                }
+            }
+        }
+        registerBatch(batch, lineNumbers, handler, result);
+        return result;
+    }
+
+    private void registerBatch(List<String[]> batch, long[] lineNumbers, RowHandler handler, ImportResult result) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        leagueManager.registerBatch(() -> {
+            for (int i = 0; i < batch.size(); i++) {
+                String rejection = handler.handle(batch.get(i));
+                if (rejection == null) {
+                    result.recordImported();
+                } else {
+                    result.recordRejected(lineNumbers[i], rejection);
+                }
+            }
+        });
+        batch.clear();
+    }
+
+    private String importTeamRow(String[] row) {
+        if (row.length != 2) {
+            return "expected 2 fields but found " + row.length;
+        }
+        if (containsLineBreak(row)) {
+            return LINE_BREAK_REJECTION;
+        }
+        if (!LeagueManager.isValidTeamName(row[0])) {
+            return "invalid team name '" + row[0] + "'";
+        }
+        if (row[1].isEmpty()) {
+            return "city cannot be empty";
+        }
+        if (leagueManager.registerTeam(row[0], row[1]) == null) {
+            return "team name '" + row[0] + "' already exists";
+        }
+        return null;
+    }
+
+    private String importPlayerRow(String[] row) {
+        if (row.length != 3 && row.length != 4) {
+            return "expected 3 or 4 fields but found " + row.length;
+        }
+        if (containsLineBreak(row)) {
+            return LINE_BREAK_REJECTION;
+        }
+        if (row[0].isEmpty() || row[1].isEmpty() || row[2].isEmpty()) {
+            return "first name, surname and position cannot be empty";
+        }
+
+        if (row.length != 4 || row[3].isEmpty()) {
+            leagueManager.registerPlayer(row[0], row[1], row[2]);
+            return null;
+        }
+        Team team = leagueManager.findTeamByName(row[3]);
+        if (team == null) {
+            return "team '" + row[3] + "' not found";
+        }
+        // Held from the capacity check until the player is on the roster, so no other thread can fill the
+        // team in between and leave the player registered for a rejected row
+        team.getRosterLock().lock();
+        try {
+            if (team.isFull()) {
+                return "team '" + row[3] + "' is full";
+            }
+            Player player = leagueManager.registerPlayer(row[0], row[1], row[2]);
+            // Only fails if another thread has already put the new player on a team, and the row was
+            // still imported
+            team.addPlayer(player);
+            return null;
+        } finally {
+            team.getRosterLock().unlock();
+        }
+    }
+
+    private static boolean containsLineBreak(String[] row) {
+        for (String field : row) {
+            if (field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isHeader(List<String> fields, String[] header) {
+        if (fields.size() < header.length) {
+            return false;
+        }
+        for (int i = 0; i < header.length; i++) {
+            String column = fields.get(i).replace(" ", "").replace("_", "").toLowerCase();
+            if (!column.equals(header[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private interface RowHandler {
+        // Returns null when the row was imported, otherwise the reason it was rejected
+        String handle(String[] row);
+    }
+}
@@ -0,0 +1,310 @@
+package com.sportsleague;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+// Append-only binary log of league mutations. Mutating threads only encode into an in-memory buffer while
+// they hold the league's locks; flush() writes the buffered records and fsyncs them as one group commit,
+// and a thread that has to wait for one does so in mutationsFinished(), after releasing the locks.
+//
+// File layout: MAGIC, VERSION, generation (long), then records of
+// [payload length (int)][CRC32C of payload (int)][payload], where the payload starts with a record type byte.
+class LeagueJournal implements LeagueMutationListener, AutoCloseable {
+    static final byte TEAM_REGISTERED = 1;
+    static final byte PLAYER_REGISTERED = 2;
+    static final byte PLAYER_ASSIGNED = 3;
+    static final byte PLAYER_REMOVED = 4;
+
+    private static final int MAGIC = 0x534C4D4A; // "SLMJ"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int RECORD_HEADER_SIZE = 8;
+    // Writers flush once they finish past this size, so the buffer stays bounded between group commits
+    private static final int FLUSH_THRESHOLD = 4 * 1024 * 1024;
+
+    private final Path directory;
+    private final boolean syncOnAppend;
+    private final Object ioLock;
+    private final CRC32C checksum;
+    private FileChannel channel;
+    private long generation;
+    private ByteBuffer activeBuffer;
+    private ByteBuffer flushBuffer;
+    private long recordCount;
+
+    // With syncOnAppend every mutation is fsynced before it returns; otherwise records become durable at the next flush()
+    LeagueJournal(Path directory, long generation, boolean syncOnAppend) throws IOException {
+        this.directory = directory;
+        this.syncOnAppend = syncOnAppend;
+        this.ioLock = new Object();
+        this.checksum = new CRC32C();
+        this.activeBuffer = ByteBuffer.allocate(64 * 1024);
+        this.flushBuffer = ByteBuffer.allocate(64 * 1024);
+        this.recordCount = 0;
+        openGeneration(generation);
+    }
+
+    static Path fileFor(Path directory, long generation) {
+        return directory.resolve(String.format("journal-%016d.log", generation));
+    }
+
+    long getGeneration() {
+        synchronized (ioLock) {
+            return generation;
+        }
+    }
+
+    synchronized long getRecordCount() {
+        return recordCount;
+    }
+
+    @Override
+    public void teamRegistered(Team team) {
+        byte[] name = team.getTeamName().getBytes(StandardCharsets.UTF_8);
+        byte[] city = team.getCity().getBytes(StandardCharsets.UTF_8);
+        append(TEAM_REGISTERED, team.getTeamId(), 0, name, city, null);
+    }
+
+    @Override
+    public void playerRegistered(Player player) {
+        byte[] firstName = player.getFirstName().getBytes(StandardCharsets.UTF_8);
+        byte[] surname = player.getSurname().getBytes(StandardCharsets.UTF_8);
+        byte[] position = player.getPosition().getBytes(StandardCharsets.UTF_8);
+        append(PLAYER_REGISTERED, player.getPlayerId(), 0, firstName, surname, position);
+    }
+
+    @Override
+    public void playerAssigned(Player player, Team team) {
+        append(PLAYER_ASSIGNED, player.getPlayerId(), team.getTeamId(), null, null, null);
+    }
+
+    @Override
+    public void playerRemoved(Player player, Team team) {
+        append(PLAYER_REMOVED, player.getPlayerId(), team.getTeamId(), null, null, null);
+    }
+
+    // With syncOnAppend, flush() waits for any group commit already writing this thread's records and then
+    // writes the rest, so threads finishing together share an fsync
+    @Override
+    public void mutationsFinished() {
+        boolean flushNow;
+        synchronized (this) {
+            flushNow = syncOnAppend || activeBuffer.position() >= FLUSH_THRESHOLD;
+        }
+        if (flushNow) {
+            flush();
+        }
+    }
+
+    private synchronized void append(byte type, int firstId, int secondId, byte[] text1, byte[] text2, byte[] text3) {
+        int payloadLength = 1 + 8 + textSize(text1) + textSize(text2) + textSize(text3);
+        ensureCapacity(RECORD_HEADER_SIZE + payloadLength);
+        int recordStart = activeBuffer.position();
+        activeBuffer.putInt(payloadLength);
+        activeBuffer.putInt(0); // Checksum, filled in below
+        activeBuffer.put(type);
+        activeBuffer.putInt(firstId);
+        activeBuffer.putInt(secondId);
+        putText(text1);
+        putText(text2);
+        putText(text3);
+
+        checksum.reset();
+        checksum.update(activeBuffer.array(), recordStart + RECORD_HEADER_SIZE, payloadLength);
+        activeBuffer.putInt(recordStart + 4, (int) checksum.getValue());
+        recordCount++;
+    }
+
+    // Writes everything appended so far and forces it to disk
+    void flush() {
+        synchronized (ioLock) {
+            ByteBuffer toWrite;
+            synchronized (this) {
+                if (activeBuffer.position() == 0) {
+                    return;
+                }
+                toWrite = activeBuffer;
+                activeBuffer = flushBuffer;
+                flushBuffer = toWrite;
+            }
+            try {
+                toWrite.flip();
+                while (toWrite.hasRemaining()) {
+                    channel.write(toWrite);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write league journal", e);
+            } finally {
+                toWrite.clear();
+            }
+        }
+    }
+
+    // Flushes the current file and switches new records to the next generation, returning that generation
+    long rotate() throws IOException {
+        synchronized (ioLock) {
+            flush();
+            synchronized (this) {
+                channel.close();
+                openGeneration(generation + 1);
+                recordCount = 0;
+                return generation;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (ioLock) {
+            flush();
+            channel.close();
+        }
+    }
+
+    private void openGeneration(long newGeneration) throws IOException {
+        Path file = fileFor(directory, newGeneration);
+        channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(VERSION).putLong(newGeneration).flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+        channel.force(true);
+        generation = newGeneration;
+    }
+
+    private void ensureCapacity(int needed) {
+        if (activeBuffer.remaining() < needed) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(activeBuffer.capacity() * 2, activeBuffer.position() + needed));
+            activeBuffer.flip();
+            larger.put(activeBuffer);
+            activeBuffer = larger;
+        }
+    }
+
+    private void putText(byte[] text) {
+        if (text != null) {
+            activeBuffer.putInt(text.length);
+            activeBuffer.put(text);
+        }
+    }
+
+    private static int textSize(byte[] text) {
+        return text == null ? 0 : 4 + text.length;
+    }
+
+    // Replays the records of one journal file into the league. Records already reflected in the league
+    // (for example because a snapshot was taken while they were being written) are skipped, so replay is
+    // idempotent. Reading stops at the first torn or corrupt record, which can only be an unsynced tail.
+    static long replay(Path file, LeagueManager league) throws IOException {
+        long replayed = 0;
+        try (InputStream fileIn = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(fileIn, 64 * 1024))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not a league journal: " + file);
+            }
+            in.readLong();
+
+            CRC32C crc = new CRC32C();
+            while (true) {
+                byte[] payload;
+                try {
+                    int length = in.readInt();
+                    int expectedChecksum = in.readInt();
+                    if (length <= 0 || length > FLUSH_THRESHOLD * 2) {
+                        break;
+                    }
+                    payload = new byte[length];
+                    in.readFully(payload);
+                    crc.reset();
+                    crc.update(payload);
+                    if ((int) crc.getValue() != expectedChecksum) {
+                        break;
+                    }
+                } catch (EOFException e) {
+                    break;
+                }
+                applyRecord(ByteBuffer.wrap(payload), league, file);
+                replayed++;
+            }
+        }
+        return replayed;
+    }
+
+    private static void applyRecord(ByteBuffer record, LeagueManager league, Path file) throws IOException {
+        byte type = record.get();
+        int firstId = record.getInt();
+        int secondId = record.getInt();
+        switch (type) {
+            case TEAM_REGISTERED: {
+                String name = getText(record);
+                String city = getText(record);
+                if (firstId < league.getNextTeamId()) {
+                    return;
+                }
+                Team team = league.registerTeam(name, city);
+                if (team == null || team.getTeamId() != firstId) {
+                    throw new IOException("Journal " + file + " does not match league state at team " + firstId);
+                }
+                return;
+            }
+            case PLAYER_REGISTERED: {
+                String firstName = getText(record);
+                String surname = getText(record);
+                String position = getText(record);
+                if (firstId < league.getNextPlayerId()) {
+                    return;
+                }
+                Player player = league.registerPlayer(firstName, surname, position);
+                if (player.getPlayerId() != firstId) {
+                    throw new IOException("Journal " + file + " does not match league state at player " + firstId);
+                }
+                return;
+            }
+            case PLAYER_ASSIGNED: {
+                Player player = league.findPlayerById(firstId);
+                if (player == null) {
+                    throw new IOException("Journal " + file + " assigns unknown player " + firstId);
+                }
+                if (player.getTeamId() == secondId) {
+                    return;
+                }
+                // A player left on another team is one whose move was cut off by a snapshot
+                if (player.getTeamId() != -1 && !league.removePlayerFromTeam(firstId)
+                        || !league.assignPlayerToTeam(firstId, secondId)) {
+                    throw new IOException("Journal " + file + " does not match league state at assignment of player "
+                            + firstId + " to team " + secondId);
+                }
+                return;
+            }
+            case PLAYER_REMOVED: {
+                Player player = league.findPlayerById(firstId);
+                if (player != null && player.getTeamId() == secondId) {
+                    league.removePlayerFromTeam(firstId);
+                }
+                return;
+            }
+            default:
+                throw new IOException("Unknown journal record type " + type + " in " + file);
+        }
+    }
+
+    private static String getText(ByteBuffer record) {
+        int length = record.getInt();
+        String text = new String(record.array(), record.position(), length, StandardCharsets.UTF_8);
+        record.position(record.position() + length);
+        return text;
+    }
+}
@@ -1,144 +1,1125 @@
 package com.sportsleague;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Safe for concurrent use. Registration and lookups share a read/write lock over the registries, while
+// roster changes only lock the team involved and claim the player with a CAS on its team id.
+// Every change also publishes a new immutable LeagueSnapshot, for reports that need a consistent picture
+// without locking. A league using StorageEngine.OFF_HEAP must be closed to release its native memory.
+public class LeagueManager implements AutoCloseable {
+    private static final int INITIAL_CAPACITY = 16;
+    // Players a spliterator reads per acquisition of the registry lock
+    private static final int STREAM_BATCH_SIZE = 1024;
+    // Events kept for subscribers; a subscriber more than this far behind starts missing events
+    private static final int EVENT_RING_CAPACITY = 1 << 16;
+    private static final int BATCH_APPLIED = 0;
+    private static final int BATCH_REJECTED = 1;
+    private static final int BATCH_RETRY = 2;
 
-public class LeagueManager {
     private List<Team> teams;
-    private List<Player> allPlayers;
+    // Ids are handed out sequentially from 1, so a dense array indexed by id gives O(1) lookups without boxing
+    private Team[] teamsById;
+    private PlayerStore playerStore;
+    // Keyed by foldCase(teamName) so lookups match String.equalsIgnoreCase
+    private Map<String, Team> teamsByName;
+    // Built on the first search, so opening a large league doesn't pay for it up front
+    private PlayerNameIndex playerNameIndex;
+    // Built by the first fuzzy search, then kept up to date
+    private FuzzyNameIndex fuzzyNameIndex;
+    // Built by the first completion, then kept up to date
+    private NameCompletionIndex playerCompletions;
+    private NameCompletionIndex teamCompletions;
+    private AssignmentTracker assignmentTracker;
+    private PositionIndex positionIndex;
+    private LeagueAggregates aggregates;
+    private RosterListener rosterListener;
+    private List<LeagueMutationListener> mutationListeners;
+    // Created by the first subscribe(), so leagues nobody watches don't pay for publishing events
+    private LeagueEventRing eventRing;
     private int nextTeamId;
-    private int nextPlayerId;
+    private final ReentrantReadWriteLock registryLock;
+    private final LeagueMetrics metrics;
+    // Replaced by compare-and-set after every change, so changes to different teams never wait on each other
+    private final AtomicReference<LeagueSnapshot> snapshot;
 
     public LeagueManager() {
+        this(StorageEngine.HEAP);
+    }
+
+    public LeagueManager(StorageEngine storageEngine) {
+        this(createPlayerStore(storageEngine));
+    }
+
+    // Players already in the store start out unassigned; teams and rosters are registered afterwards
+    LeagueManager(PlayerStore playerStore) {
+        this(playerStore, PositionIndex.of(playerStore));
+    }
+
+    // As above, with the positions of the stored players already indexed
+    LeagueManager(PlayerStore playerStore, PositionIndex positionIndex) {
         this.teams = new ArrayList<>();
-        this.allPlayers = new ArrayList<>();
+        this.teamsById = new Team[INITIAL_CAPACITY];
+        this.playerStore = playerStore;
+        this.teamsByName = new HashMap<>();
+        this.playerNameIndex = null;
+        this.fuzzyNameIndex = null;
+        this.playerCompletions = null;
+        this.teamCompletions = null;
+        this.assignmentTracker = new AssignmentTracker();
+        this.assignmentTracker.playersRegistered(1, playerStore.size());
+        this.positionIndex = positionIndex;
+        this.aggregates = new LeagueAggregates();
+        this.mutationListeners = new CopyOnWriteArrayList<>();
+        this.snapshot = new AtomicReference<>(LeagueSnapshot.initial(playerStore));
+        this.rosterListener = new RosterListener() {
+            @Override
+            public void playerAdded(Team team, Player player) {
+                recordAssigned(player.getPlayerId(), team.getTeamId());
+                snapshot.updateAndGet(current -> current.withPlayerAdded(team.getTeamId(), player.getPlayerId()));
+                for (LeagueMutationListener listener : mutationListeners) {
+                    listener.playerAssigned(player, team);
+                }
+            }
+
+            @Override
+            public void playerRemoved(Team team, Player player) {
+                recordUnassigned(player.getPlayerId(), team.getTeamId());
+                snapshot.updateAndGet(current -> current.withPlayerRemoved(team.getTeamId(), player.getPlayerId()));
+                for (LeagueMutationListener listener : mutationListeners) {
+                    listener.playerRemoved(player, team);
+                }
+            }
+        };
         this.nextTeamId = 1;
-        this.nextPlayerId = 1;
+        this.registryLock = new ReentrantReadWriteLock();
+        this.metrics = new LeagueMetrics();
     }
 
     public Team registerTeam(String teamName, String city) {
-        if (!isValidTeamName(teamName)) {
-            return null;
-        }
+        // The aggregates, journal and snapshot all need a city, so a team without one is never stored
+        requireValue(city, "City");
+        long startNanos = metrics.startTimer();
+        try {
+            if (!isValidTeamName(teamName)) {
+                return null;
+            }
+
+            String nameKey = foldCase(teamName);
+            registryLock.writeLock().lock();
+            try {
+                if (teamsByName.containsKey(nameKey)) {
+                    return null; // Team name already exists
+                }
 
-        for (Team existingTeam : teams) {
-            if (existingTeam.getTeamName().equalsIgnoreCase(teamName)) {
-                return null; // Team name already exists
+                Team newTeam = new Team(nextTeamId++, teamName, city);
+                newTeam.setRosterListener(rosterListener);
+                // Before the team is published, so nothing can reach it without its totals
+                aggregates.teamRegistered(newTeam);
+                teams.add(newTeam);
+                teamsByName.put(nameKey, newTeam);
+                if (newTeam.getTeamId() >= teamsById.length) {
+                    teamsById = Arrays.copyOf(teamsById, grownCapacity(teamsById.length, newTeam.getTeamId()));
+                }
+                teamsById[newTeam.getTeamId()] = newTeam;
+                if (teamCompletions != null) {
+                    teamCompletions.add(newTeam.getTeamId(), teamName);
+                }
+                snapshot.updateAndGet(current -> current.withTeam(newTeam));
+                for (LeagueMutationListener listener : mutationListeners) {
+                    listener.teamRegistered(newTeam);
+                }
+                return newTeam;
+            } finally {
+                registryLock.writeLock().unlock();
             }
+        } finally {
+            finishMutations();
+            metrics.record(LeagueOperation.REGISTER_TEAM, startNanos);
         }
-
-        Team newTeam = new Team(nextTeamId++, teamName, city);
-        teams.add(newTeam);
-        return newTeam;
     }
 
     public Team findTeamById(int teamId) {
-        for (Team team : teams) {
-            if (team.getTeamId() == teamId) {
-                return team;
+        long startNanos = metrics.startTimer();
+        Team team = lookupTeam(teamId);
+        metrics.record(LeagueOperation.FIND_TEAM_BY_ID, startNanos);
+        return team;
+    }
+
+    private Team lookupTeam(int teamId) {
+        registryLock.readLock().lock();
+        try {
+            if (teamId < 1 || teamId >= nextTeamId) {
+                return null;
             }
+            return teamsById[teamId];
+        } finally {
+            registryLock.readLock().unlock();
         }
-        return null;
     }
 
     public Team findTeamByName(String teamName) {
-        for (Team team : teams) {
-            if (team.getTeamName().equalsIgnoreCase(teamName)) {
-                return team;
+        long startNanos = metrics.startTimer();
+        try {
+            if (teamName == null) {
+                return null;
+            }
+            String nameKey = foldCase(teamName);
+            registryLock.readLock().lock();
+            try {
+                return teamsByName.get(nameKey);
+            } finally {
+                registryLock.readLock().unlock();
             }
+        } finally {
+            metrics.record(LeagueOperation.FIND_TEAM_BY_NAME, startNanos);
         }
-        return null;
     }
 
     public Player registerPlayer(String firstName, String surname, String position) {
-        Player newPlayer = new Player(nextPlayerId++, firstName, surname, position);
-        allPlayers.add(newPlayer);
-        return newPlayer;
+        // Checked before anything is stored, so a bad call can't leave the player in only some indexes
+        requireValue(firstName, "First name");
+        requireValue(surname, "Surname");
+        requireValue(position, "Position");
+        long startNanos = metrics.startTimer();
+        try {
+            registryLock.writeLock().lock();
+            try {
+                Player newPlayer = playerStore.add(firstName, surname, position);
+                if (playerNameIndex != null) {
+                    playerNameIndex.add(newPlayer.getPlayerId(), firstName, surname);
+                }
+                if (fuzzyNameIndex != null) {
+                    fuzzyNameIndex.add(newPlayer.getPlayerId(), firstName, surname);
+                }
+                if (playerCompletions != null) {
+                    playerCompletions.add(newPlayer.getPlayerId(), firstName + " " + surname);
+                }
+                assignmentTracker.playerRegistered(newPlayer.getPlayerId());
+                positionIndex.playerRegistered(newPlayer.getPlayerId(), position);
+                snapshot.updateAndGet(LeagueSnapshot::withPlayer);
+                for (LeagueMutationListener listener : mutationListeners) {
+                    listener.playerRegistered(newPlayer);
+                }
+                return newPlayer;
+            } finally {
+                registryLock.writeLock().unlock();
+            }
+        } finally {
+            finishMutations();
+            metrics.record(LeagueOperation.REGISTER_PLAYER, startNanos);
+        }
     }
 
-    public boolean assignPlayerToTeam(int playerId, int teamId) {
-        Player player = findPlayerById(playerId);
-        Team team = findTeamById(teamId);
+    // Starts receiving every registration and roster change made from now on, including those applied by
+    // batches, transfers and drafts
+    public LeagueEventSubscription subscribe() {
+        registryLock.writeLock().lock();
+        try {
+            if (eventRing == null) {
+                eventRing = new LeagueEventRing(EVENT_RING_CAPACITY);
+                mutationListeners.add(eventRing);
+            }
+            return new LeagueEventSubscription(eventRing);
+        } finally {
+            registryLock.writeLock().unlock();
+        }
+    }
 
-        if (player == null || team == null) {
-            return false;
+    void addMutationListener(LeagueMutationListener listener) {
+        mutationListeners.add(listener);
+    }
+
+    void removeMutationListener(LeagueMutationListener listener) {
+        mutationListeners.remove(listener);
+    }
+
+    // Runs several registrations while holding the registry lock once, as used by bulk imports
+    void registerBatch(Runnable registrations) {
+        registryLock.writeLock().lock();
+        try {
+            registrations.run();
+        } finally {
+            registryLock.writeLock().unlock();
         }
+        finishMutations();
+    }
+
+    public boolean assignPlayerToTeam(int playerId, int teamId) {
+        long startNanos = metrics.startTimer();
+        try {
+            Player player = lookupPlayer(playerId);
+            Team team = lookupTeam(teamId);
 
-        return team.addPlayer(player);
+            if (player == null || team == null) {
+                return false;
+            }
+
+            return team.addPlayer(player);
+        } finally {
+            finishMutations();
+            metrics.record(LeagueOperation.ASSIGN_PLAYER_TO_TEAM, startNanos);
+        }
     }
 
     public boolean removePlayerFromTeam(int playerId) {
-        Player player = findPlayerById(playerId);
-        if (player == null || !player.isAssignedToTeam()) {
-            return false;
+        long startNanos = metrics.startTimer();
+        try {
+            Player player = lookupPlayer(playerId);
+            if (player == null) {
+                return false;
+            }
+
+            while (true) {
+                int teamId = player.getTeamId();
+                if (teamId == -1) {
+                    return false;
+                }
+                Team team = lookupTeam(teamId);
+                if (team == null) {
+                    return false;
+                }
+                if (team.removePlayer(playerId)) {
+                    return true;
+                }
+                if (player.getTeamId() == teamId) {
+                    return false;
+                }
+                // The player moved to another team while we looked it up, so try again
+            }
+        } finally {
+            finishMutations();
+            metrics.record(LeagueOperation.REMOVE_PLAYER_FROM_TEAM, startNanos);
+        }
+    }
+
+    // Moves an assigned player straight to another team. Unlike removePlayerFromTeam followed by
+    // assignPlayerToTeam, the player is never left unassigned if the target team turns out to be full.
+    public boolean transferPlayer(int playerId, int teamId) {
+        long startNanos = metrics.startTimer();
+        try {
+            return applyBatchOnce(new RosterBatch().transfer(playerId, teamId));
+        } finally {
+            metrics.record(LeagueOperation.TRANSFER_PLAYER, startNanos);
+        }
+    }
+
+    // Applies every operation in the batch, or none of them if any would fail: an unknown id, assigning a
+    // player who is already on a team, removing or transferring one who isn't, or overfilling a team at any
+    // point in the sequence. Ids are resolved once and each team involved is locked once for the whole batch.
+    public boolean applyBatch(RosterBatch batch) {
+        long startNanos = metrics.startTimer();
+        try {
+            return applyBatchOnce(batch);
+        } finally {
+            metrics.record(LeagueOperation.APPLY_BATCH, startNanos);
+        }
+    }
+
+    private boolean applyBatchOnce(RosterBatch batch) {
+        try {
+            while (true) {
+                int outcome = tryApplyBatch(batch);
+                if (outcome != BATCH_RETRY) {
+                    return outcome == BATCH_APPLIED;
+                }
+                // A player in the batch changed team before we could lock it, so start over
+            }
+        } finally {
+            finishMutations();
+        }
+    }
+
+    private int tryApplyBatch(RosterBatch batch) {
+        Player[] players = new Player[batch.size()];
+        // Keyed by id, so the teams are locked in a global order and two batches can't deadlock
+        TreeMap<Integer, Team> involvedTeams = new TreeMap<>();
+        registryLock.readLock().lock();
+        try {
+            for (int i = 0; i < batch.size(); i++) {
+                int playerId = batch.getPlayerId(i);
+                if (playerId < 1 || playerId > playerStore.size()) {
+                    return BATCH_REJECTED;
+                }
+                players[i] = playerStore.get(playerId);
+                if (batch.getKind(i) != RosterBatch.REMOVE) {
+                    int teamId = batch.getTeamId(i);
+                    if (teamId < 1 || teamId >= nextTeamId) {
+                        return BATCH_REJECTED;
+                    }
+                    involvedTeams.put(teamId, teamsById[teamId]);
+                }
+                int currentTeamId = players[i].getTeamId();
+                if (currentTeamId != -1) {
+                    involvedTeams.put(currentTeamId, teamsById[currentTeamId]);
+                }
+            }
+        } finally {
+            registryLock.readLock().unlock();
+        }
+
+        int locked = 0;
+        Team[] lockOrder = involvedTeams.values().toArray(new Team[0]);
+        try {
+            for (Team team : lockOrder) {
+                team.getRosterLock().lock();
+                locked++;
+            }
+            return applyLockedBatch(batch, players, involvedTeams);
+        } finally {
+            for (int i = locked - 1; i >= 0; i--) {
+                lockOrder[i].getRosterLock().unlock();
+            }
+        }
+    }
+
+    // Runs with every involved team locked, so only unassigned players can still change under us
+    private int applyLockedBatch(RosterBatch batch, Player[] players, Map<Integer, Team> involvedTeams) {
+        // Replays the batch against the current rosters to find each player's final team
+        Map<Integer, BatchMove> moves = new LinkedHashMap<>();
+        Map<Integer, Integer> rosterSizes = new HashMap<>();
+        for (Map.Entry<Integer, Team> entry : involvedTeams.entrySet()) {
+            rosterSizes.put(entry.getKey(), entry.getValue().getPlayerCount());
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            Player player = players[i];
+            BatchMove move = moves.get(player.getPlayerId());
+            if (move == null) {
+                int currentTeamId = player.getTeamId();
+                if (currentTeamId != -1 && !involvedTeams.containsKey(currentTeamId)) {
+                    return BATCH_RETRY;
+                }
+                move = new BatchMove(player, currentTeamId);
+                moves.put(player.getPlayerId(), move);
+            }
+
+            int fromTeamId = move.toTeamId;
+            int toTeamId;
+            switch (batch.getKind(i)) {
+                case RosterBatch.ASSIGN:
+                    if (fromTeamId != -1) {
+                        return BATCH_REJECTED;
+                    }
+                    toTeamId = batch.getTeamId(i);
+                    break;
+                case RosterBatch.REMOVE:
+                    if (fromTeamId == -1) {
+                        return BATCH_REJECTED;
+                    }
+                    toTeamId = -1;
+                    break;
+                default:
+                    if (fromTeamId == -1 || fromTeamId == batch.getTeamId(i)) {
+                        return BATCH_REJECTED;
+                    }
+                    toTeamId = batch.getTeamId(i);
+                    break;
+            }
+            if (fromTeamId != -1) {
+                rosterSizes.merge(fromTeamId, -1, Integer::sum);
+            }
+            if (toTeamId != -1) {
+                if (rosterSizes.get(toTeamId) >= Team.MAX_PLAYERS) {
+                    return BATCH_REJECTED;
+                }
+                rosterSizes.merge(toTeamId, 1, Integer::sum);
+            }
+            move.toTeamId = toTeamId;
         }
+        moves.values().removeIf(move -> move.fromTeamId == move.toTeamId);
 
-        Team team = findTeamById(player.getTeamId());
-        if (team != null) {
-            return team.removePlayer(playerId);
+        // Unassigned players can be claimed by any team, so they are claimed before anything changes
+        List<BatchMove> claimed = new ArrayList<>();
+        for (BatchMove move : moves.values()) {
+            if (move.fromTeamId == -1) {
+                if (!move.player.claimTeam(move.toTeamId)) {
+                    for (BatchMove claimedMove : claimed) {
+                        claimedMove.player.setTeamId(-1);
+                    }
+                    return BATCH_RETRY;
+                }
+                claimed.add(move);
+            }
         }
-        return false;
+
+        // Removals go first so that no roster ever holds more than its final or current size
+        for (BatchMove move : moves.values()) {
+            if (move.fromTeamId != -1) {
+                involvedTeams.get(move.fromTeamId).detachPlayer(move.player.getPlayerId());
+            }
+        }
+        for (BatchMove move : moves.values()) {
+            if (move.toTeamId != -1) {
+                involvedTeams.get(move.toTeamId).attachPlayer(move.player);
+                if (move.fromTeamId != -1) {
+                    move.player.setTeamId(move.toTeamId);
+                }
+            }
+        }
+
+        // The whole batch becomes visible to snapshot readers at once
+        snapshot.updateAndGet(current -> {
+            LeagueSnapshot next = current;
+            for (BatchMove move : moves.values()) {
+                if (move.fromTeamId != -1) {
+                    next = next.withPlayerRemoved(move.fromTeamId, move.player.getPlayerId());
+                }
+                if (move.toTeamId != -1) {
+                    next = next.withPlayerAdded(move.toTeamId, move.player.getPlayerId());
+                }
+            }
+            return next;
+        });
+        for (BatchMove move : moves.values()) {
+            Team fromTeam = move.fromTeamId == -1 ? null : involvedTeams.get(move.fromTeamId);
+            Team toTeam = move.toTeamId == -1 ? null : involvedTeams.get(move.toTeamId);
+            if (fromTeam == null) {
+                recordAssigned(move.player.getPlayerId(), move.toTeamId);
+            } else if (toTeam == null) {
+                recordUnassigned(move.player.getPlayerId(), move.fromTeamId);
+            } else {
+                int positionCode = positionIndex.codeOfPlayer(move.player.getPlayerId());
+                aggregates.playerRemoved(move.fromTeamId, positionCode);
+                aggregates.playerAdded(move.toTeamId, positionCode);
+            }
+            for (LeagueMutationListener listener : mutationListeners) {
+                if (fromTeam != null) {
+                    listener.playerRemoved(move.player, fromTeam);
+                }
+                if (toTeam != null) {
+                    listener.playerAssigned(move.player, toTeam);
+                }
+            }
+        }
+        for (BatchMove move : moves.values()) {
+            if (move.toTeamId == -1) {
+                move.player.setTeamId(-1);
+            }
+        }
+        return BATCH_APPLIED;
+    }
+
+    // Called by every mutating method once its locks are released. Registrations run by registerBatch
+    // still hold the write lock, so the batch finishes them all when it ends.
+    private void finishMutations() {
+        if (registryLock.isWriteLockedByCurrentThread()) {
+            return;
+        }
+        for (LeagueMutationListener listener : mutationListeners) {
+            listener.mutationsFinished();
+        }
+    }
+
+    // Called with the team's roster lock held
+    private void recordAssigned(int playerId, int teamId) {
+        assignmentTracker.playerAssigned(playerId);
+        positionIndex.playerAssigned(playerId);
+        aggregates.playerAdded(teamId, positionIndex.codeOfPlayer(playerId));
+    }
+
+    private void recordUnassigned(int playerId, int teamId) {
+        assignmentTracker.playerUnassigned(playerId);
+        positionIndex.playerUnassigned(playerId);
+        aggregates.playerRemoved(teamId, positionIndex.codeOfPlayer(playerId));
     }
 
     public Player findPlayerById(int playerId) {
-        for (Player player : allPlayers) {
-            if (player.getPlayerId() == playerId) {
-                return player;
+        long startNanos = metrics.startTimer();
+        Player player = lookupPlayer(playerId);
+        metrics.record(LeagueOperation.FIND_PLAYER_BY_ID, startNanos);
+        return player;
+    }
+
+    private Player lookupPlayer(int playerId) {
+        registryLock.readLock().lock();
+        try {
+            if (playerId < 1 || playerId > playerStore.size()) {
+                return null;
             }
+            return playerStore.get(playerId);
+        } finally {
+            registryLock.readLock().unlock();
         }
-        return null;
     }
 
     public List<Player> searchPlayersByName(String name) {
-        List<Player> results = new ArrayList<>();
-        String searchTerm = name.toLowerCase();
+        long startNanos = metrics.startTimer();
+        try {
+            if (playerNameIndex == null) {
+                buildPlayerNameIndex();
+            }
+            registryLock.readLock().lock();
+            try {
+                int[] matchingIds = playerNameIndex.search(name);
+                List<Player> results = new ArrayList<>(matchingIds.length);
+                for (int playerId : matchingIds) {
+                    results.add(playerStore.get(playerId));
+                }
+                return results;
+            } finally {
+                registryLock.readLock().unlock();
+            }
+        } finally {
+            metrics.record(LeagueOperation.SEARCH_PLAYERS_BY_NAME, startNanos);
+        }
+    }
 
-        for (Player player : allPlayers) {
-            if (player.getFirstName().toLowerCase().contains(searchTerm) ||
-                    player.getSurname().toLowerCase().contains(searchTerm)) {
-                results.add(player);
+    // Up to limit players whose names are within a few typos of the query, closest first. Each word of the
+    // query must match the player's first name or surname within one edit (two for words of five or more
+    // letters), so "Micheal Jordon" finds Michael Jordan.
+    public List<Player> searchPlayersFuzzy(String query, int limit) {
+        return searchPlayersFuzzy(query, limit, false);
+    }
+
+    // As above; with phonetic set, names that sound like a query word (by Soundex) also match, ranked after
+    // the names within the edit limit
+    public List<Player> searchPlayersFuzzy(String query, int limit, boolean phonetic) {
+        long startNanos = metrics.startTimer();
+        try {
+            if (fuzzyNameIndex == null) {
+                buildFuzzyNameIndex();
             }
+            registryLock.readLock().lock();
+            try {
+                int[] matchingIds = fuzzyNameIndex.search(query, limit, phonetic);
+                List<Player> results = new ArrayList<>(matchingIds.length);
+                for (int playerId : matchingIds) {
+                    results.add(playerStore.get(playerId));
+                }
+                return results;
+            } finally {
+                registryLock.readLock().unlock();
+            }
+        } finally {
+            metrics.record(LeagueOperation.SEARCH_PLAYERS_FUZZY, startNanos);
+        }
+    }
+
+    private void buildFuzzyNameIndex() {
+        registryLock.writeLock().lock();
+        try {
+            if (fuzzyNameIndex == null) {
+                FuzzyNameIndex index = new FuzzyNameIndex();
+                for (int playerId = 1; playerId <= playerStore.size(); playerId++) {
+                    index.add(playerId, playerStore.getFirstName(playerId), playerStore.getSurname(playerId));
+                }
+                fuzzyNameIndex = index;
+            }
+        } finally {
+            registryLock.writeLock().unlock();
+        }
+    }
+
+    // Up to limit players with a first name or surname starting with each word of the prefix, ignoring
+    // case, in alphabetical order of the names the prefix completes: "jor" lists the Jordans and
+    // "michael j" the Michaels whose surnames start with J
+    public List<Player> completePlayerNames(String prefix, int limit) {
+        long startNanos = metrics.startTimer();
+        try {
+            if (playerCompletions == null) {
+                buildNameCompletions();
+            }
+            registryLock.readLock().lock();
+            try {
+                int[] matchingIds = playerCompletions.complete(prefix, limit);
+                List<Player> results = new ArrayList<>(matchingIds.length);
+                for (int playerId : matchingIds) {
+                    results.add(playerStore.get(playerId));
+                }
+                return results;
+            } finally {
+                registryLock.readLock().unlock();
+            }
+        } finally {
+            metrics.record(LeagueOperation.COMPLETE_PLAYER_NAMES, startNanos);
+        }
+    }
+
+    // As completePlayerNames, over the words of team names, so "lak" finds the Los Angeles Lakers
+    public List<Team> completeTeamNames(String prefix, int limit) {
+        long startNanos = metrics.startTimer();
+        try {
+            if (teamCompletions == null) {
+                buildNameCompletions();
+            }
+            registryLock.readLock().lock();
+            try {
+                int[] matchingIds = teamCompletions.complete(prefix, limit);
+                List<Team> results = new ArrayList<>(matchingIds.length);
+                for (int teamId : matchingIds) {
+                    results.add(teamsById[teamId]);
+                }
+                return results;
+            } finally {
+                registryLock.readLock().unlock();
+            }
+        } finally {
+            metrics.record(LeagueOperation.COMPLETE_TEAM_NAMES, startNanos);
+        }
+    }
+
+    private void buildNameCompletions() {
+        registryLock.writeLock().lock();
+        try {
+            if (playerCompletions == null) {
+                NameCompletionIndex players = new NameCompletionIndex();
+                for (int playerId = 1; playerId <= playerStore.size(); playerId++) {
+                    players.add(playerId, playerStore.getFirstName(playerId) + " " + playerStore.getSurname(playerId));
+                }
+                NameCompletionIndex teamNames = new NameCompletionIndex();
+                for (Team team : teams) {
+                    teamNames.add(team.getTeamId(), team.getTeamName());
+                }
+                teamCompletions = teamNames;
+                playerCompletions = players;
+            }
+        } finally {
+            registryLock.writeLock().unlock();
+        }
+    }
+
+    private void buildPlayerNameIndex() {
+        registryLock.writeLock().lock();
+        try {
+            if (playerNameIndex == null) {
+                PlayerNameIndex index = new PlayerNameIndex();
+                for (int playerId = 1; playerId <= playerStore.size(); playerId++) {
+                    index.add(playerId, playerStore.getFirstName(playerId), playerStore.getSurname(playerId));
+                }
+                playerNameIndex = index;
+            }
+        } finally {
+            registryLock.writeLock().unlock();
         }
-        return results;
     }
 
     public List<Player> getUnassignedPlayers() {
-        List<Player> unassigned = new ArrayList<>();
-        for (Player player : allPlayers) {
-            if (!player.isAssignedToTeam()) {
-                unassigned.add(player);
+        long startNanos = metrics.startTimer();
+        try {
+            registryLock.readLock().lock();
+            try {
+                int[] unassignedIds = assignmentTracker.getUnassignedIds(playerStore.size());
+                List<Player> unassigned = new ArrayList<>(unassignedIds.length);
+                for (int playerId : unassignedIds) {
+                    unassigned.add(playerStore.get(playerId));
+                }
+                return unassigned;
+            } finally {
+                registryLock.readLock().unlock();
+            }
+        } finally {
+            metrics.record(LeagueOperation.GET_UNASSIGNED_PLAYERS, startNanos);
+        }
+    }
+
+    // Positions ignore case and surrounding spaces, and are listed as first registered
+    public List<String> getPositions() {
+        long startNanos = metrics.startTimer();
+        try {
+            registryLock.readLock().lock();
+            try {
+                List<String> positions = new ArrayList<>(positionIndex.getPositionCount());
+                for (int code = 0; code < positionIndex.getPositionCount(); code++) {
+                    positions.add(positionIndex.getPositionName(code));
+                }
+                return positions;
+            } finally {
+                registryLock.readLock().unlock();
             }
+        } finally {
+            metrics.record(LeagueOperation.GET_POSITIONS, startNanos);
+        }
+    }
+
+    public List<Player> getPlayersByPosition(String position) {
+        long startNanos = metrics.startTimer();
+        try {
+            return playersAtPosition(position, false);
+        } finally {
+            metrics.record(LeagueOperation.GET_PLAYERS_BY_POSITION, startNanos);
+        }
+    }
+
+    public List<Player> getUnassignedPlayersByPosition(String position) {
+        long startNanos = metrics.startTimer();
+        try {
+            return playersAtPosition(position, true);
+        } finally {
+            metrics.record(LeagueOperation.GET_UNASSIGNED_PLAYERS_BY_POSITION, startNanos);
+        }
+    }
+
+    // The team's players at the position, in roster order; empty for an unknown team or position
+    public List<Player> getPlayersByPosition(String position, int teamId) {
+        long startNanos = metrics.startTimer();
+        try {
+            List<Player> players = new ArrayList<>();
+            Team team = lookupTeam(teamId);
+            int code = positionCode(position);
+            if (team == null || code < 0) {
+                return players;
+            }
+            for (Player player : team.getRosterView()) {
+                if (positionIndex.codeOfPlayer(player.getPlayerId()) == code) {
+                    players.add(player);
+                }
+            }
+            return players;
+        } finally {
+            metrics.record(LeagueOperation.GET_PLAYERS_BY_POSITION, startNanos);
+        }
+    }
+
+    // Number of players at each position, including those with none
+    public Map<String, Integer> countPlayersByPosition() {
+        long startNanos = metrics.startTimer();
+        try {
+            registryLock.readLock().lock();
+            try {
+                Map<String, Integer> counts = new LinkedHashMap<>();
+                for (int code = 0; code < positionIndex.getPositionCount(); code++) {
+                    counts.put(positionIndex.getPositionName(code), positionIndex.getPlayerCount(code));
+                }
+                return counts;
+            } finally {
+                registryLock.readLock().unlock();
+            }
+        } finally {
+            metrics.record(LeagueOperation.COUNT_PLAYERS_BY_POSITION, startNanos);
+        }
+    }
+
+    public Map<String, Integer> countUnassignedPlayersByPosition() {
+        long startNanos = metrics.startTimer();
+        try {
+            registryLock.readLock().lock();
+            try {
+                Map<String, Integer> counts = new LinkedHashMap<>();
+                for (int code = 0; code < positionIndex.getPositionCount(); code++) {
+                    counts.put(positionIndex.getPositionName(code), positionIndex.getUnassignedCount(code));
+                }
+                return counts;
+            } finally {
+                registryLock.readLock().unlock();
+            }
+        } finally {
+            metrics.record(LeagueOperation.COUNT_UNASSIGNED_PLAYERS_BY_POSITION, startNanos);
+        }
+    }
+
+    // Number of the team's players at each position, or an empty map for an unknown team
+    public Map<String, Integer> countPlayersByPosition(int teamId) {
+        long startNanos = metrics.startTimer();
+        try {
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            Team team = lookupTeam(teamId);
+            if (team == null) {
+                return counts;
+            }
+            registryLock.readLock().lock();
+            try {
+                int[] countsByCode = aggregates.getPositionCounts(teamId);
+                for (int code = 0; code < positionIndex.getPositionCount(); code++) {
+                    counts.put(positionIndex.getPositionName(code), code < countsByCode.length ? countsByCode[code] : 0);
+                }
+                return counts;
+            } finally {
+                registryLock.readLock().unlock();
+            }
+        } finally {
+            metrics.record(LeagueOperation.COUNT_PLAYERS_BY_POSITION, startNanos);
+        }
+    }
+
+    private List<Player> playersAtPosition(String position, boolean unassignedOnly) {
+        registryLock.readLock().lock();
+        try {
+            int code = positionIndex.codeOf(position);
+            if (code < 0) {
+                return new ArrayList<>();
+            }
+            int[] playerIds = positionIndex.getPlayerIds(code,
+                    unassignedOnly ? assignmentTracker.getUnassignedPlayerIds() : null);
+            List<Player> players = new ArrayList<>(playerIds.length);
+            for (int playerId : playerIds) {
+                players.add(playerStore.get(playerId));
+            }
+            return players;
+        } finally {
+            registryLock.readLock().unlock();
+        }
+    }
+
+    private int positionCode(String position) {
+        registryLock.readLock().lock();
+        try {
+            return positionIndex.codeOf(position);
+        } finally {
+            registryLock.readLock().unlock();
+        }
+    }
+
+    // Every total on the statistics screen. The work depends on the number of cities and positions, never
+    // on the number of players or teams.
+    public LeagueStatistics getStatistics() {
+        long startNanos = metrics.startTimer();
+        try {
+            registryLock.readLock().lock();
+            try {
+                Map<String, Integer> playersByPosition = new LinkedHashMap<>();
+                Map<String, Integer> unassignedByPosition = new LinkedHashMap<>();
+                for (int code = 0; code < positionIndex.getPositionCount(); code++) {
+                    playersByPosition.put(positionIndex.getPositionName(code), positionIndex.getPlayerCount(code));
+                    unassignedByPosition.put(positionIndex.getPositionName(code), positionIndex.getUnassignedCount(code));
+                }
+                return new LeagueStatistics(teams.size(), playerStore.size(), assignmentTracker.getAssignedCount(),
+                        aggregates.getTeamsByRosterSize(), aggregates.getTeamsByCity(), aggregates.getPlayersByCity(),
+                        playersByPosition, unassignedByPosition);
+            } finally {
+                registryLock.readLock().unlock();
+            }
+        } finally {
+            metrics.record(LeagueOperation.GET_STATISTICS, startNanos);
         }
-        return unassigned;
     }
 
     public int getTotalTeams() {
-        return teams.size();
+        long startNanos = metrics.startTimer();
+        try {
+            registryLock.readLock().lock();
+            try {
+                return teams.size();
+            } finally {
+                registryLock.readLock().unlock();
+            }
+        } finally {
+            metrics.record(LeagueOperation.GET_TOTAL_TEAMS, startNanos);
+        }
     }
 
     public int getTotalPlayers() {
-        return allPlayers.size();
+        long startNanos = metrics.startTimer();
+        try {
+            registryLock.readLock().lock();
+            try {
+                return playerStore.size();
+            } finally {
+                registryLock.readLock().unlock();
+            }
+        } finally {
+            metrics.record(LeagueOperation.GET_TOTAL_PLAYERS, startNanos);
+        }
+    }
+
+    // Latency and throughput of this league's operations; disabled until setEnabled(true)
+    public LeagueMetrics getMetrics() {
+        return metrics;
+    }
+
+    PlayerStore getPlayerStore() {
+        return playerStore;
+    }
+
+    private static void requireValue(String value, String description) {
+        if (value == null) {
+            throw new IllegalArgumentException(description + " is required");
+        }
+    }
+
+    PositionIndex getPositionIndex() {
+        return positionIndex;
+    }
+
+    // Holds off every mutation until releaseMutations(): registrations by the registry write lock and roster
+    // changes by every team's roster lock, taken in id order as batches take them. The snapshot can't change
+    // in between, and neither can anything the mutation listeners have been told.
+    void holdMutations() {
+        registryLock.writeLock().lock();
+        for (Team team : teams) {
+            team.getRosterLock().lock();
+        }
+    }
+
+    void releaseMutations() {
+        for (int i = teams.size() - 1; i >= 0; i--) {
+            teams.get(i).getRosterLock().unlock();
+        }
+        registryLock.writeLock().unlock();
+    }
+
+    int getNextTeamId() {
+        registryLock.readLock().lock();
+        try {
+            return nextTeamId;
+        } finally {
+            registryLock.readLock().unlock();
+        }
+    }
+
+    int getNextPlayerId() {
+        registryLock.readLock().lock();
+        try {
+            return playerStore.size() + 1;
+        } finally {
+            registryLock.readLock().unlock();
+        }
     }
 
     public int getAssignedPlayers() {
-        int count = 0;
-        for (Player player : allPlayers) {
-            if (player.isAssignedToTeam()) {
-                count++;
-            }
+        long startNanos = metrics.startTimer();
+        try {
+            return assignmentTracker.getAssignedCount();
+        } finally {
+            metrics.record(LeagueOperation.GET_ASSIGNED_PLAYERS, startNanos);
+        }
+    }
+
+    public int getUnassignedPlayerCount() {
+        long startNanos = metrics.startTimer();
+        try {
+            return getNextPlayerId() - 1 - assignmentTracker.getAssignedCount();
+        } finally {
+            metrics.record(LeagueOperation.GET_UNASSIGNED_PLAYER_COUNT, startNanos);
         }
-        return count;
     }
 
     public List<Team> getAllTeams() {
-        return new ArrayList<>(teams);
+        long startNanos = metrics.startTimer();
+        try {
+            registryLock.readLock().lock();
+            try {
+                return new ArrayList<>(teams);
+            } finally {
+                registryLock.readLock().unlock();
+            }
+        } finally {
+            metrics.record(LeagueOperation.GET_ALL_TEAMS, startNanos);
+        }
     }
 
     public List<Player> getAllPlayers() {
-        return new ArrayList<>(allPlayers);
+        long startNanos = metrics.startTimer();
+        try {
+            registryLock.readLock().lock();
+            try {
+                List<Player> players = new ArrayList<>(playerStore.size());
+                for (int playerId = 1; playerId <= playerStore.size(); playerId++) {
+                    players.add(playerStore.get(playerId));
+                }
+                return players;
+            } finally {
+                registryLock.readLock().unlock();
+            }
+        } finally {
+            metrics.record(LeagueOperation.GET_ALL_PLAYERS, startNanos);
+        }
     }
 
-    private boolean isValidTeamName(String teamName) {
+    // Returns up to limit players in id order, skipping the first offset, without copying the rest of the league
+    public List<Player> getPlayers(int offset, int limit) {
+        long startNanos = metrics.startTimer();
+        try {
+            registryLock.readLock().lock();
+            try {
+                int from = Math.max(0, offset);
+                int to = (int) Math.min(playerStore.size(), (long) from + Math.max(0, limit));
+                List<Player> players = new ArrayList<>(Math.max(0, to - from));
+                for (int playerId = from + 1; playerId <= to; playerId++) {
+                    players.add(playerStore.get(playerId));
+                }
+                return players;
+            } finally {
+                registryLock.readLock().unlock();
+            }
+        } finally {
+            metrics.record(LeagueOperation.GET_PLAYERS, startNanos);
+        }
+    }
+
+    // The league as of the latest change. Never blocks, and the result never changes, however long it is kept.
+    public LeagueSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    // Unmodifiable view of every player in id order. Nothing is copied: each access reads the league as it
+    // is at that moment, so the view grows as players are registered.
+    public List<Player> getPlayersView() {
+        return new PlayersView();
+    }
+
+    // Unmodifiable view of every team in registration order, read live like getPlayersView
+    public List<Team> getTeamsView() {
+        return new TeamsView();
+    }
+
+    // Streams up to limit players in id order after skipping offset, reading them from the league in batches
+    // rather than copying them into a list first. Players registered after the call are not included.
+    public Stream<Player> streamPlayers(int offset, int limit) {
+        registryLock.readLock().lock();
+        try {
+            int from = Math.max(0, offset);
+            int to = (int) Math.min(playerStore.size(), (long) from + Math.max(0, limit));
+            return StreamSupport.stream(new PlayerSpliterator(from + 1, Math.max(from, to) + 1), false);
+        } finally {
+            registryLock.readLock().unlock();
+        }
+    }
+
+    // Releases the league's storage; the league and its players must not be used afterwards
+    @Override
+    public void close() {
+        metrics.unregisterMBean();
+        registryLock.writeLock().lock();
+        try {
+            playerStore.close();
+        } finally {
+            registryLock.writeLock().unlock();
+        }
+    }
+
+    private static PlayerStore createPlayerStore(StorageEngine storageEngine) {
+        switch (storageEngine) {
+            case COLUMNAR:
+                return new ColumnarPlayerStore();
+            case OFF_HEAP:
+                return new OffHeapPlayerStore();
+            default:
+                return new HeapPlayerStore();
+        }
+    }
+
+    private static int grownCapacity(int currentCapacity, int requiredIndex) {
+        int newCapacity = currentCapacity + (currentCapacity >> 1);
+        return Math.max(newCapacity, requiredIndex + 1);
+    }
+
+    // Applies the same per-character folding as String.equalsIgnoreCase, so two names fold
+    // to the same key exactly when equalsIgnoreCase would consider them equal
+    static String foldCase(String value) {
+        StringBuilder folded = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); ) {
+            int codePoint = value.codePointAt(i);
+            folded.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint)));
+            i += Character.charCount(codePoint);
+        }
+        return folded.toString();
+    }
+
+    static boolean isValidTeamName(String teamName) {
         if (teamName == null || teamName.trim().isEmpty()) {
             return false;
         }
@@ -148,6 +1129,153 @@ public class LeagueManager {
             return false;
         }
 
-        return trimmedName.matches("[a-zA-Z0-9\\s'.-]+");
+        // Same rule as the pattern [a-zA-Z0-9\s'.-]+ without compiling a regex per call
+        for (int i = 0; i < trimmedName.length(); i++) {
+            if (!isValidTeamNameChar(trimmedName.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isValidTeamNameChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r'
+                || c == '\'' || c == '.' || c == '-';
+    }
+
+    private class PlayersView extends AbstractList<Player> implements RandomAccess {
+        @Override
+        public Player get(int index) {
+            registryLock.readLock().lock();
+            try {
+                if (index < 0 || index >= playerStore.size()) {
+                    throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + playerStore.size());
+                }
+                return playerStore.get(index + 1);
+            } finally {
+                registryLock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public int size() {
+            registryLock.readLock().lock();
+            try {
+                return playerStore.size();
+            } finally {
+                registryLock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public Spliterator<Player> spliterator() {
+            return new PlayerSpliterator(1, size() + 1);
+        }
+    }
+
+    private class TeamsView extends AbstractList<Team> implements RandomAccess {
+        @Override
+        public Team get(int index) {
+            registryLock.readLock().lock();
+            try {
+                return teams.get(index);
+            } finally {
+                registryLock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public int size() {
+            registryLock.readLock().lock();
+            try {
+                return teams.size();
+            } finally {
+                registryLock.readLock().unlock();
+            }
+        }
+    }
+
+    // Walks player ids from nextPlayerId up to, but not including, endPlayerId. Players are fetched under the
+    // registry lock a batch at a time and handed to the consumer after the lock is released.
+    private class PlayerSpliterator implements Spliterator<Player> {
+        private int nextPlayerId;
+        private final int endPlayerId;
+
+        PlayerSpliterator(int nextPlayerId, int endPlayerId) {
+            this.nextPlayerId = nextPlayerId;
+            this.endPlayerId = endPlayerId;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Player> action) {
+            if (nextPlayerId >= endPlayerId) {
+                return false;
+            }
+            Player player;
+            registryLock.readLock().lock();
+            try {
+                player = playerStore.get(nextPlayerId++);
+            } finally {
+                registryLock.readLock().unlock();
+            }
+            action.accept(player);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Player> action) {
+            Player[] batch = new Player[Math.min(STREAM_BATCH_SIZE, Math.max(0, endPlayerId - nextPlayerId))];
+            while (nextPlayerId < endPlayerId) {
+                int count = Math.min(batch.length, endPlayerId - nextPlayerId);
+                registryLock.readLock().lock();
+                try {
+                    for (int i = 0; i < count; i++) {
+                        batch[i] = playerStore.get(nextPlayerId + i);
+                    }
+                } finally {
+                    registryLock.readLock().unlock();
+                }
+                nextPlayerId += count;
+                for (int i = 0; i < count; i++) {
+                    action.accept(batch[i]);
+                }
+            }
+        }
+
+        @Override
+        public Spliterator<Player> trySplit() {
+            int remaining = endPlayerId - nextPlayerId;
+            if (remaining < 2 * STREAM_BATCH_SIZE) {
+                return null;
+            }
+            int splitId = nextPlayerId + remaining / 2;
+            PlayerSpliterator prefix = new PlayerSpliterator(nextPlayerId, splitId);
+            nextPlayerId = splitId;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Math.max(0, endPlayerId - nextPlayerId);
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL | DISTINCT;
+        }
+    }
+
+    // Where one player of a batch starts and, once the batch has been replayed, ends up
+    private static class BatchMove {
+        private final Player player;
+        private final int fromTeamId;
+        private int toTeamId;
+
+        BatchMove(Player player, int fromTeamId) {
+            this.player = player;
+            this.fromTeamId = fromTeamId;
+            this.toTeamId = fromTeamId;
+        }
     }
-}
\ No newline at end of file
+}
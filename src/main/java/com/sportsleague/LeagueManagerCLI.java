@@ -1,14 +1,39 @@
 package com.sportsleague;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import javax.management.JMException;
 
 public class LeagueManagerCLI {
+    private static final int PAGE_SIZE = 20;
+    private static final int CLOSEST_MATCH_LIMIT = 10;
+    private static final int COMPLETION_LIMIT = 10;
+    // Each team on a page of rosters can take up to Team.MAX_PLAYERS lines
+    private static final int ROSTERS_PER_PAGE = 2;
+    private static final String USAGE = "Usage: LeagueManagerCLI [--data <directory>] [--script <file>|- | --serve <port>]";
+
     private LeagueManager leagueManager;
     private Scanner scanner;
 
     public LeagueManagerCLI() {
-        this.leagueManager = new LeagueManager();
+        this(new LeagueManager());
+    }
+
+    public LeagueManagerCLI(LeagueManager leagueManager) {
+        this.leagueManager = leagueManager;
         this.scanner = new Scanner(System.in);
     }
 
@@ -51,6 +76,15 @@ public class LeagueManagerCLI {
                 case 10:
                     viewLeagueStats();
                     break;
+                case 11:
+                    importFromCsv();
+                    break;
+                case 12:
+                    runDraft();
+                    break;
+                case 13:
+                    viewPlayersByPosition();
+                    break;
                 case 0:
                     System.out.println("Thank you for using Sports League Manager!");
                     return;
@@ -77,6 +111,9 @@ public class LeagueManagerCLI {
         System.out.println("8.  Search Players by Name");
         System.out.println("9.  View Unassigned Players");
         System.out.println("10. View League Statistics");
+        System.out.println("11. Import Teams or Players from CSV");
+        System.out.println("12. Draft Unassigned Players");
+        System.out.println("13. View Players by Position");
         System.out.println("0.  Exit");
         System.out.println("=".repeat(40));
         System.out.print("Please enter your choice: ");
@@ -143,35 +180,27 @@ public class LeagueManagerCLI {
     private void assignPlayerToTeam() {
         System.out.println("\n--- Assign Player to Team ---");
 
-        // Show unassigned players
-        List<Player> unassignedPlayers = leagueManager.getUnassignedPlayers();
-        if (unassignedPlayers.isEmpty()) {
+        int unassignedCount = leagueManager.getUnassignedPlayerCount();
+        if (unassignedCount == 0) {
             System.out.println("No unassigned players available.");
             return;
         }
-
-        System.out.println("Unassigned Players:");
-        for (Player player : unassignedPlayers) {
-            System.out.println(player);
-        }
-
-        System.out.print("Enter player ID: ");
-        int playerId = getIntInput();
-
-        // Show available teams
-        List<Team> teams = leagueManager.getAllTeams();
-        if (teams.isEmpty()) {
+        if (leagueManager.getTotalTeams() == 0) {
             System.out.println("No teams available. Please register a team first.");
             return;
         }
 
-        System.out.println("\nAvailable Teams:");
-        for (Team team : teams) {
-            System.out.println(team);
+        System.out.println("Unassigned players: " + unassignedCount);
+        int playerId = readPlayerId();
+        if (playerId < 0) {
+            return;
         }
 
-        System.out.print("Enter team ID: ");
-        int teamId = getIntInput();
+        System.out.println("Teams: " + leagueManager.getTotalTeams());
+        int teamId = readTeamId();
+        if (teamId < 0) {
+            return;
+        }
 
         if (leagueManager.assignPlayerToTeam(playerId, teamId)) {
             System.out.println("Player assigned to team successfully!");
@@ -183,22 +212,27 @@ public class LeagueManagerCLI {
     private void removePlayerFromTeam() {
         System.out.println("\n--- Remove Player from Team ---");
 
-        // Show assigned players
-        List<Player> allPlayers = leagueManager.getAllPlayers();
-        List<Player> assignedPlayers = allPlayers.stream()
-                .filter(Player::isAssignedToTeam)
-                .toList();
+        // Show assigned players, team by team, so the whole league is never scanned
+        List<Team> teamsWithPlayers = new ArrayList<>();
+        for (Team team : leagueManager.getAllTeams()) {
+            if (team.getPlayerCount() > 0) {
+                teamsWithPlayers.add(team);
+            }
+        }
 
-        if (assignedPlayers.isEmpty()) {
+        if (teamsWithPlayers.isEmpty()) {
             System.out.println("No players are currently assigned to teams.");
             return;
         }
 
         System.out.println("Assigned Players:");
-        for (Player player : assignedPlayers) {
-            Team team = leagueManager.findTeamById(player.getTeamId());
-            System.out.println(player + " (Team: " + team.getTeamName() + ")");
-        }
+        showPaged(teamsWithPlayers.size(), ROSTERS_PER_PAGE, (offset, limit, page) -> {
+            for (Team team : pageOf(teamsWithPlayers, offset, limit)) {
+                for (Player player : team.getRoster()) {
+                    page.append(player).append(" (Team: ").append(team.getTeamName()).append(")\n");
+                }
+            }
+        });
 
         System.out.print("Enter player ID to remove: ");
         int playerId = getIntInput();
@@ -219,47 +253,41 @@ public class LeagueManagerCLI {
             return;
         }
 
-        for (Team team : teams) {
-            System.out.println(team);
-        }
+        showTeams(teams);
     }
 
     private void viewAllPlayers() {
         System.out.println("\n--- All Players ---");
-        List<Player> players = leagueManager.getAllPlayers();
+        int totalPlayers = leagueManager.getTotalPlayers();
 
-        if (players.isEmpty()) {
+        if (totalPlayers == 0) {
             System.out.println("No players registered yet.");
             return;
         }
 
-        for (Player player : players) {
-            if (player.isAssignedToTeam()) {
-                Team team = leagueManager.findTeamById(player.getTeamId());
-                System.out.println(player + " (Team: " + team.getTeamName() + ")");
-            } else {
-                System.out.println(player + " (Unassigned)");
+        // Only the players on the page being shown are fetched
+        String[] teamNames = teamNamesById();
+        showPaged(totalPlayers, PAGE_SIZE, (offset, limit, page) -> {
+            for (Player player : leagueManager.getPlayers(offset, limit)) {
+                appendPlayerWithTeam(page, player, teamNames);
             }
-        }
+        });
     }
 
     private void viewTeamRoster() {
         System.out.println("\n--- View Team Roster ---");
 
-        List<Team> teams = leagueManager.getAllTeams();
-        if (teams.isEmpty()) {
+        if (leagueManager.getTotalTeams() == 0) {
             System.out.println("No teams available.");
             return;
         }
 
-        System.out.println("Available Teams:");
-        for (Team team : teams) {
-            System.out.println(team);
+        System.out.println("Teams: " + leagueManager.getTotalTeams());
+        int teamId = readTeamId();
+        if (teamId < 0) {
+            return;
         }
 
-        System.out.print("Enter team ID: ");
-        int teamId = getIntInput();
-
         Team team = leagueManager.findTeamById(teamId);
         if (team == null) {
             System.out.println("Team not found!");
@@ -275,6 +303,13 @@ public class LeagueManagerCLI {
             for (Player player : roster) {
                 System.out.println(player);
             }
+            List<String> positionMix = new ArrayList<>();
+            for (Map.Entry<String, Integer> entry : leagueManager.countPlayersByPosition(teamId).entrySet()) {
+                if (entry.getValue() > 0) {
+                    positionMix.add(entry.getKey() + " " + entry.getValue());
+                }
+            }
+            System.out.println("Positions: " + String.join(", ", positionMix));
         }
     }
 
@@ -292,16 +327,24 @@ public class LeagueManagerCLI {
 
         if (results.isEmpty()) {
             System.out.println("No players found matching '" + searchTerm + "'");
+            List<Player> closestMatches = leagueManager.searchPlayersFuzzy(searchTerm, CLOSEST_MATCH_LIMIT, true);
+            if (!closestMatches.isEmpty()) {
+                System.out.println("Closest matches:");
+                String[] teamNames = teamNamesById();
+                StringBuilder lines = new StringBuilder();
+                for (Player player : closestMatches) {
+                    appendPlayerWithTeam(lines, player, teamNames);
+                }
+                System.out.print(lines);
+            }
         } else {
             System.out.println("Search Results:");
-            for (Player player : results) {
-                if (player.isAssignedToTeam()) {
-                    Team team = leagueManager.findTeamById(player.getTeamId());
-                    System.out.println(player + " (Team: " + team.getTeamName() + ")");
-                } else {
-                    System.out.println(player + " (Unassigned)");
+            String[] teamNames = teamNamesById();
+            showPaged(results.size(), PAGE_SIZE, (offset, limit, page) -> {
+                for (Player player : pageOf(results, offset, limit)) {
+                    appendPlayerWithTeam(page, player, teamNames);
                 }
-            }
+            });
         }
     }
 
@@ -312,18 +355,280 @@ public class LeagueManagerCLI {
         if (unassigned.isEmpty()) {
             System.out.println("All players are assigned to teams.");
         } else {
-            for (Player player : unassigned) {
-                System.out.println(player);
+            showPaged(unassigned.size(), PAGE_SIZE, (offset, limit, page) -> {
+                for (Player player : pageOf(unassigned, offset, limit)) {
+                    page.append(player).append('\n');
+                }
+            });
+        }
+    }
+
+    private void viewPlayersByPosition() {
+        System.out.println("\n--- Players by Position ---");
+        Map<String, Integer> counts = leagueManager.countPlayersByPosition();
+        if (counts.isEmpty()) {
+            System.out.println("No players registered yet.");
+            return;
+        }
+        Map<String, Integer> unassignedCounts = leagueManager.countUnassignedPlayersByPosition();
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            System.out.printf("%-20s %8d players %8d unassigned%n", entry.getKey(), entry.getValue(),
+                    unassignedCounts.getOrDefault(entry.getKey(), 0));
+        }
+
+        System.out.print("\nEnter position: ");
+        String position = scanner.nextLine().trim();
+        if (position.isEmpty()) {
+            System.out.println("Position cannot be empty!");
+            return;
+        }
+        System.out.print("Show (Enter for all, u for unassigned, or a team ID): ");
+        String filter = scanner.nextLine().trim();
+
+        List<Player> players;
+        if (filter.isEmpty()) {
+            players = leagueManager.getPlayersByPosition(position);
+        } else if (filter.equalsIgnoreCase("u")) {
+            players = leagueManager.getUnassignedPlayersByPosition(position);
+        } else {
+            try {
+                players = leagueManager.getPlayersByPosition(position, Integer.parseInt(filter));
+            } catch (NumberFormatException e) {
+                System.out.println("Error: Invalid choice.");
+                return;
             }
         }
+
+        if (players.isEmpty()) {
+            System.out.println("No matching players found.");
+        } else {
+            String[] teamNames = teamNamesById();
+            showPaged(players.size(), PAGE_SIZE, (offset, limit, page) -> {
+                for (Player player : pageOf(players, offset, limit)) {
+                    appendPlayerWithTeam(page, player, teamNames);
+                }
+            });
+        }
     }
 
     private void viewLeagueStats() {
         System.out.println("\n--- League Statistics ---");
-        System.out.println("Total Teams: " + leagueManager.getTotalTeams());
-        System.out.println("Total Players: " + leagueManager.getTotalPlayers());
-        System.out.println("Assigned Players: " + leagueManager.getAssignedPlayers());
-        System.out.println("Unassigned Players: " + (leagueManager.getTotalPlayers() - leagueManager.getAssignedPlayers()));
+        LeagueStatistics statistics = leagueManager.getStatistics();
+        System.out.println("Total Teams: " + statistics.getTotalTeams());
+        System.out.println("Total Players: " + statistics.getTotalPlayers());
+        System.out.println("Assigned Players: " + statistics.getAssignedPlayers());
+        System.out.println("Unassigned Players: " + statistics.getUnassignedPlayers());
+        System.out.println("Full Teams: " + statistics.getFullTeams());
+        System.out.printf("Roster Fill: %.1f%%%n", statistics.getRosterFill() * 100);
+
+        if (statistics.getTotalTeams() > 0) {
+            System.out.println("\n--- Teams by Roster Size ---");
+            for (int rosterSize = Team.MAX_PLAYERS; rosterSize >= 0; rosterSize--) {
+                int teamCount = statistics.getTeamsWithRosterSize(rosterSize);
+                if (teamCount > 0) {
+                    System.out.printf("%2d/%d players: %d teams%n", rosterSize, Team.MAX_PLAYERS, teamCount);
+                }
+            }
+
+            System.out.println("\n--- Cities ---");
+            System.out.printf("%-24s %8s %10s%n", "City", "Teams", "Players");
+            for (Map.Entry<String, Integer> entry : statistics.getTeamsByCity().entrySet()) {
+                System.out.printf("%-24s %8d %10d%n", entry.getKey(), entry.getValue(),
+                        statistics.getPlayersByCity().get(entry.getKey()));
+            }
+        }
+
+        if (!statistics.getPlayersByPosition().isEmpty()) {
+            System.out.println("\n--- Positions ---");
+            System.out.printf("%-24s %10s %10s%n", "Position", "Assigned", "Unassigned");
+            for (Map.Entry<String, Integer> entry : statistics.getPlayersByPosition().entrySet()) {
+                int unassigned = statistics.getUnassignedPlayersByPosition().get(entry.getKey());
+                System.out.printf("%-24s %10d %10d%n", entry.getKey(), entry.getValue() - unassigned, unassigned);
+            }
+        }
+
+        System.out.println("\n--- Operation Latency ---");
+        LeagueMetrics metrics = leagueManager.getMetrics();
+        if (!metrics.isEnabled()) {
+            System.out.println("Metrics are disabled.");
+            return;
+        }
+        System.out.printf("%-26s %10s %12s %10s %10s %10s%n", "Operation", "Calls", "Ops/sec", "p50 (us)", "p99 (us)", "Max (us)");
+        for (OperationStats stats : metrics.getOperationStats()) {
+            System.out.printf("%-26s %10d %12.1f %10.1f %10.1f %10.1f%n", stats.getOperation(), stats.getCount(),
+                    stats.getOpsPerSecond(), stats.getP50Nanos() / 1000.0, stats.getP99Nanos() / 1000.0,
+                    stats.getMaxNanos() / 1000.0);
+        }
+    }
+
+    private void importFromCsv() {
+        System.out.println("\n--- Import from CSV ---");
+        System.out.println("1. Teams   (teamName,city)");
+        System.out.println("2. Players (firstName,surname,position[,teamName])");
+        System.out.print("Enter choice: ");
+        int choice = getIntInput();
+        if (choice != 1 && choice != 2) {
+            System.out.println("Error: Invalid choice.");
+            return;
+        }
+
+        System.out.print("Enter file path: ");
+        String fileName = scanner.nextLine().trim();
+        if (fileName.isEmpty()) {
+            System.out.println("Error: File path cannot be empty!");
+            return;
+        }
+
+        Path file = Paths.get(fileName);
+        LeagueImporter importer = new LeagueImporter(leagueManager);
+        try {
+            ImportResult result = choice == 1 ? importer.importTeams(file) : importer.importPlayers(file);
+            System.out.println("Imported: " + result.getImportedCount());
+            System.out.println("Rejected: " + result.getRejectedCount());
+            for (String rejectedRow : result.getRejectedRows()) {
+                System.out.println("  " + rejectedRow);
+            }
+            if (result.getRejectedRows().size() < result.getRejectedCount()) {
+                System.out.println("  ...");
+            }
+        } catch (IOException e) {
+            System.out.println("Error: Could not read file: " + e.getMessage());
+        }
+    }
+
+    private void runDraft() {
+        System.out.println("\n--- Draft Unassigned Players ---");
+        System.out.print("Enter draft seed: ");
+        int seed = getIntInput();
+
+        DraftResult result = new DraftEngine(leagueManager).draft(seed);
+        System.out.println("Assigned: " + result.getAssignedCount());
+        if (result.getSkippedCount() > 0) {
+            System.out.println("Skipped (changed during the draft): " + result.getSkippedCount());
+        }
+        System.out.println("Still unassigned: " + result.getUndraftedCount());
+    }
+
+    private void showTeams(List<Team> teams) {
+        showPaged(teams.size(), PAGE_SIZE, (offset, limit, page) -> {
+            for (Team team : pageOf(teams, offset, limit)) {
+                page.append(team).append('\n');
+            }
+        });
+    }
+
+    // Shows a long listing one page at a time. Each page is built in one buffer and printed in a single
+    // write. With more than one page the user moves with n(ext), p(rev) or a page number, and Enter finishes.
+    private void showPaged(int totalEntries, int pageSize, PageRenderer renderer) {
+        int pageCount = (int) Math.max(1, ((long) totalEntries + pageSize - 1) / pageSize);
+        int pageIndex = 0;
+        StringBuilder page = new StringBuilder();
+        while (true) {
+            page.setLength(0);
+            renderer.render(pageIndex * pageSize, pageSize, page);
+            if (pageCount == 1) {
+                System.out.print(page);
+                return;
+            }
+            page.append("Page ").append(pageIndex + 1).append(" of ").append(pageCount)
+                    .append(" - [n]ext, [p]rev, page number to jump, Enter to finish: ");
+            System.out.print(page);
+
+            String input = scanner.nextLine().trim();
+            if (input.isEmpty()) {
+                return;
+            } else if (input.equalsIgnoreCase("n")) {
+                pageIndex = Math.min(pageCount - 1, pageIndex + 1);
+            } else if (input.equalsIgnoreCase("p")) {
+                pageIndex = Math.max(0, pageIndex - 1);
+            } else {
+                try {
+                    pageIndex = Math.min(pageCount, Math.max(1, Integer.parseInt(input))) - 1;
+                } catch (NumberFormatException e) {
+                    System.out.println("Please enter n, p, a page number or nothing.");
+                }
+            }
+        }
+    }
+
+    private static <T> List<T> pageOf(List<T> entries, int offset, int limit) {
+        return entries.subList(Math.min(offset, entries.size()), Math.min(offset + limit, entries.size()));
+    }
+
+    // Team names indexed by team id, built once per listing instead of looking up a team for every player
+    private String[] teamNamesById() {
+        List<Team> teams = leagueManager.getTeamsView();
+        int maxTeamId = 0;
+        for (Team team : teams) {
+            maxTeamId = Math.max(maxTeamId, team.getTeamId());
+        }
+        String[] teamNames = new String[maxTeamId + 1];
+        for (Team team : teams) {
+            // Teams registered since the first pass are left out
+            if (team.getTeamId() < teamNames.length) {
+                teamNames[team.getTeamId()] = team.getTeamName();
+            }
+        }
+        return teamNames;
+    }
+
+    private static void appendPlayerWithTeam(StringBuilder page, Player player, String[] teamNames) {
+        int teamId = player.getTeamId();
+        page.append(player);
+        if (teamId == -1) {
+            page.append(" (Unassigned)\n");
+        } else {
+            String teamName = teamId < teamNames.length ? teamNames[teamId] : null;
+            page.append(" (Team: ").append(teamName != null ? teamName : "#" + teamId).append(")\n");
+        }
+    }
+
+    private int readPlayerId() {
+        String[] teamNames = teamNamesById();
+        return readId("player", prefix -> leagueManager.completePlayerNames(prefix, COMPLETION_LIMIT),
+                Player::getPlayerId, (line, player) -> appendPlayerWithTeam(line, player, teamNames));
+    }
+
+    private int readTeamId() {
+        return readId("team", prefix -> leagueManager.completeTeamNames(prefix, COMPLETION_LIMIT),
+                Team::getTeamId, (line, team) -> line.append(team).append('\n'));
+    }
+
+    // Reads an id, or the start of a name to list the first few matches and ask again; a name only one
+    // entry matches is picked straight away. Returns -1 if the input is left empty.
+    private <T> int readId(String kind, Function<String, List<T>> completer, ToIntFunction<T> idOf,
+            BiConsumer<StringBuilder, T> describer) {
+        System.out.print("Enter " + kind + " ID or name (Enter to cancel): ");
+        while (true) {
+            String input = scanner.nextLine().trim();
+            if (input.isEmpty()) {
+                return -1;
+            }
+            try {
+                return Integer.parseInt(input);
+            } catch (NumberFormatException e) {
+                // Not an id, so complete it as a name
+            }
+            List<T> matches = completer.apply(input);
+            StringBuilder listing = new StringBuilder();
+            if (matches.size() == 1) {
+                describer.accept(listing.append("Selected: "), matches.get(0));
+                System.out.print(listing);
+                return idOf.applyAsInt(matches.get(0));
+            }
+            if (matches.isEmpty()) {
+                listing.append("No ").append(kind).append(" names start with '").append(input).append("'\n");
+            } else {
+                for (T match : matches) {
+                    describer.accept(listing, match);
+                }
+                if (matches.size() == COMPLETION_LIMIT) {
+                    listing.append("(first ").append(COMPLETION_LIMIT).append(" shown; type more of the name)\n");
+                }
+            }
+            listing.append("Enter ").append(kind).append(" ID or more of the name: ");
+            System.out.print(listing);
+        }
     }
 
     private int getIntInput() {
@@ -337,8 +642,114 @@ public class LeagueManagerCLI {
         }
     }
 
+    // Writes the entries from offset to offset + limit of a paged listing
+    private interface PageRenderer {
+        void render(int offset, int limit, StringBuilder page);
+    }
+
     public static void main(String[] args) {
-        LeagueManagerCLI cli = new LeagueManagerCLI();
+        // --data <directory> loads the league from and saves it to that directory;
+        // --script <file> runs commands from the file, or from stdin for "-", instead of showing menus;
+        // --serve <port> accepts the same commands from network clients on the loopback interface
+        String dataDirectory = null;
+        String script = null;
+        int port = -1;
+        for (int i = 0; i < args.length; i += 2) {
+            if (i + 1 < args.length && args[i].equals("--data")) {
+                dataDirectory = args[i + 1];
+            } else if (i + 1 < args.length && args[i].equals("--script")) {
+                script = args[i + 1];
+            } else if (i + 1 < args.length && args[i].equals("--serve") && args[i + 1].matches("\\d{1,5}")) {
+                port = Integer.parseInt(args[i + 1]);
+            } else {
+                System.out.println(USAGE);
+                return;
+            }
+        }
+        if (script != null && port >= 0) {
+            System.out.println("Error: --script and --serve cannot be used together");
+            System.out.println(USAGE);
+            return;
+        }
+
+        if (dataDirectory != null) {
+            try (LeagueStorage storage = LeagueStorage.open(Paths.get(dataDirectory))) {
+                run(storage.getLeagueManager(), script, port);
+            } catch (IOException e) {
+                System.out.println("Error: Could not use data directory: " + e.getMessage());
+            }
+            return;
+        }
+
+        try (LeagueManager leagueManager = new LeagueManager()) {
+            run(leagueManager, script, port);
+        }
+    }
+
+    // The interactive CLI always collects metrics and publishes them over JMX
+    private static void run(LeagueManager leagueManager, String script, int port) {
+        if (script != null) {
+            runScript(leagueManager, script);
+            return;
+        }
+        if (port >= 0) {
+            serve(leagueManager, port);
+            return;
+        }
+        leagueManager.getMetrics().setEnabled(true);
+        try {
+            leagueManager.getMetrics().registerMBean();
+        } catch (JMException e) {
+            System.out.println("Warning: Could not publish metrics over JMX: " + e.getMessage());
+        }
+        LeagueManagerCLI cli = new LeagueManagerCLI(leagueManager);
         cli.start();
+        leagueManager.getMetrics().unregisterMBean();
+    }
+
+    // Runs until the process is stopped; the shutdown hook closes the server and then waits for main to
+    // finish, so a --data directory is still saved
+    private static void serve(LeagueManager leagueManager, int port) {
+        if (port > 65535) {
+            System.out.println("Error: Port must be between 0 and 65535.");
+            return;
+        }
+        LeagueServer server = new LeagueServer(leagueManager, port);
+        try {
+            server.start();
+        } catch (IOException e) {
+            System.out.println("Error: Could not listen on port " + port + ": " + e.getMessage());
+            return;
+        }
+        System.out.println("Serving the league on port " + server.getPort() + "; stop with Ctrl+C");
+
+        Thread mainThread = Thread.currentThread();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            try {
+                mainThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        try {
+            server.awaitClose();
+        } catch (InterruptedException e) {
+            server.close();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void runScript(LeagueManager leagueManager, String script) {
+        LeagueCommandInterpreter interpreter = new LeagueCommandInterpreter(leagueManager);
+        try (Reader input = script.equals("-")
+                ? new InputStreamReader(System.in, StandardCharsets.UTF_8)
+                : Files.newBufferedReader(Paths.get(script), StandardCharsets.UTF_8)) {
+            interpreter.run(input, new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.err.println("Error: Could not read script: " + e.getMessage());
+        }
+        // Kept off stdout so the command output stays machine-readable
+        System.err.println("Ran " + interpreter.getCommandCount() + " commands, " + interpreter.getErrorCount() + " failed");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,104 @@
+package com.sportsleague;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+// Call counts and latency histograms for every LeagueManager operation. Disabled by default: a disabled
+// timer costs one volatile read per call and never reads the clock.
+public class LeagueMetrics implements LeagueMetricsMXBean {
+    private static final AtomicInteger nextMBeanId = new AtomicInteger(1);
+
+    private final LatencyHistogram[] histograms;
+    private volatile boolean enabled;
+    private volatile long sinceNanos;
+    private ObjectName objectName;
+
+    LeagueMetrics() {
+        this.histograms = new LatencyHistogram[LeagueOperation.values().length];
+        for (int i = 0; i < histograms.length; i++) {
+            this.histograms[i] = new LatencyHistogram();
+        }
+        this.enabled = false;
+        this.sinceNanos = System.nanoTime();
+    }
+
+    // Returns the start time to pass to record, or 0 when metrics are disabled
+    long startTimer() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    void record(LeagueOperation operation, long startNanos) {
+        if (startNanos != 0) {
+            histograms[operation.ordinal()].record(System.nanoTime() - startNanos);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Enabling starts a fresh measurement window, so ops/sec is averaged over the time metrics were on
+    @Override
+    public synchronized void setEnabled(boolean enabled) {
+        if (enabled && !this.enabled) {
+            reset();
+        }
+        this.enabled = enabled;
+    }
+
+    @Override
+    public synchronized void reset() {
+        for (LatencyHistogram histogram : histograms) {
+            histogram.reset();
+        }
+        sinceNanos = System.nanoTime();
+    }
+
+    public OperationStats getStats(LeagueOperation operation) {
+        LatencyHistogram histogram = histograms[operation.ordinal()];
+        long count = histogram.getCount();
+        double elapsedSeconds = Math.max(1, System.nanoTime() - sinceNanos) / 1_000_000_000.0;
+        return new OperationStats(operation.getMethodName(), count, count / elapsedSeconds,
+                histogram.getPercentileNanos(50), histogram.getPercentileNanos(99), histogram.getMaxNanos());
+    }
+
+    @Override
+    public List<OperationStats> getOperationStats() {
+        List<OperationStats> stats = new ArrayList<>();
+        for (LeagueOperation operation : LeagueOperation.values()) {
+            OperationStats operationStats = getStats(operation);
+            if (operationStats.getCount() > 0) {
+                stats.add(operationStats);
+            }
+        }
+        return stats;
+    }
+
+    // Publishes these metrics on the platform MBean server and returns the name they were registered under
+    public synchronized ObjectName registerMBean() throws JMException {
+        if (objectName == null) {
+            ObjectName name = new ObjectName("com.sportsleague:type=LeagueMetrics,id=" + nextMBeanId.getAndIncrement());
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+            objectName = name;
+        }
+        return objectName;
+    }
+
+    public synchronized void unregisterMBean() {
+        if (objectName != null) {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            try {
+                server.unregisterMBean(objectName);
+            } catch (JMException e) {
+                // Already unregistered by someone else
+            }
+            objectName = null;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.sportsleague;
+
+import java.util.List;
+
+// Management interface for LeagueMetrics, registered as com.sportsleague:type=LeagueMetrics,id=<n>
+public interface LeagueMetricsMXBean {
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    // Statistics for every operation called at least once since metrics were enabled or reset
+    List<OperationStats> getOperationStats();
+
+    void reset();
+}
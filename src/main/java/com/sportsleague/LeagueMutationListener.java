@@ -0,0 +1,17 @@
+package com.sportsleague;
+
+// Receives every successful mutation of a LeagueManager, in the order it was applied to each team or player
+interface LeagueMutationListener {
+    void teamRegistered(Team team);
+
+    void playerRegistered(Player player);
+
+    void playerAssigned(Player player, Team team);
+
+    void playerRemoved(Player player, Team team);
+
+    // Called on the mutating thread once it has released the league's locks, after one or more of the calls
+    // above, so slow work for them (such as waiting for a disk sync) never holds up other mutations
+    default void mutationsFinished() {
+    }
+}
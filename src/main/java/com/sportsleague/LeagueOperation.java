@@ -0,0 +1,43 @@
+package com.sportsleague;
+
+// The LeagueManager operations that LeagueMetrics times, one per public method that reads or changes the
+// league. Views and streams are lazy, so the calls that create them are not timed.
+public enum LeagueOperation {
+    REGISTER_TEAM("registerTeam"),
+    FIND_TEAM_BY_ID("findTeamById"),
+    FIND_TEAM_BY_NAME("findTeamByName"),
+    REGISTER_PLAYER("registerPlayer"),
+    ASSIGN_PLAYER_TO_TEAM("assignPlayerToTeam"),
+    REMOVE_PLAYER_FROM_TEAM("removePlayerFromTeam"),
+    TRANSFER_PLAYER("transferPlayer"),
+    APPLY_BATCH("applyBatch"),
+    FIND_PLAYER_BY_ID("findPlayerById"),
+    SEARCH_PLAYERS_BY_NAME("searchPlayersByName"),
+    SEARCH_PLAYERS_FUZZY("searchPlayersFuzzy"),
+    COMPLETE_PLAYER_NAMES("completePlayerNames"),
+    COMPLETE_TEAM_NAMES("completeTeamNames"),
+    GET_UNASSIGNED_PLAYERS("getUnassignedPlayers"),
+    GET_POSITIONS("getPositions"),
+    GET_PLAYERS_BY_POSITION("getPlayersByPosition"),
+    GET_UNASSIGNED_PLAYERS_BY_POSITION("getUnassignedPlayersByPosition"),
+    COUNT_PLAYERS_BY_POSITION("countPlayersByPosition"),
+    COUNT_UNASSIGNED_PLAYERS_BY_POSITION("countUnassignedPlayersByPosition"),
+    GET_STATISTICS("getStatistics"),
+    GET_TOTAL_TEAMS("getTotalTeams"),
+    GET_TOTAL_PLAYERS("getTotalPlayers"),
+    GET_ASSIGNED_PLAYERS("getAssignedPlayers"),
+    GET_UNASSIGNED_PLAYER_COUNT("getUnassignedPlayerCount"),
+    GET_ALL_TEAMS("getAllTeams"),
+    GET_ALL_PLAYERS("getAllPlayers"),
+    GET_PLAYERS("getPlayers");
+
+    private final String methodName;
+
+    LeagueOperation(String methodName) {
+        this.methodName = methodName;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+}
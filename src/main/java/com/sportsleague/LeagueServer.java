@@ -0,0 +1,133 @@
+package com.sportsleague;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Serves one league to many clients over TCP with the same line commands as script mode: each line is a
+// command and each reply is the line (or counted listing) the interpreter writes for it. Every connection gets its
+// own interpreter on its own virtual thread, so a blocked client costs a few kilobytes rather than a
+// platform thread. Clients may pipeline: replies to commands sent together come back in one write, in
+// order. Commands that read server files are refused, and a client that sends a line longer than
+// BoundedLineReader.MAX_LINE_LENGTH gets an error and is disconnected.
+public class LeagueServer implements AutoCloseable {
+    private static final int ACCEPT_BACKLOG = 4096;
+    // Kept small because there can be tens of thousands of connections
+    private static final int CONNECTION_BUFFER_SIZE = 8 * 1024;
+
+    private LeagueManager leagueManager;
+    private InetSocketAddress address;
+    private ServerSocket serverSocket;
+    private Thread acceptThread;
+    private final Set<Socket> openConnections;
+    private final AtomicLong acceptedCount;
+
+    // Listens on the loopback interface only
+    public LeagueServer(LeagueManager leagueManager, int port) {
+        this(leagueManager, new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+    }
+
+    public LeagueServer(LeagueManager leagueManager, InetSocketAddress address) {
+        this.leagueManager = leagueManager;
+        this.address = address;
+        this.openConnections = ConcurrentHashMap.newKeySet();
+        this.acceptedCount = new AtomicLong();
+    }
+
+    public void start() throws IOException {
+        if (serverSocket != null) {
+            throw new IllegalStateException("Server already started");
+        }
+        serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(address, ACCEPT_BACKLOG);
+        acceptThread = Thread.ofVirtual().name("league-server-accept").start(this::acceptConnections);
+    }
+
+    // The port actually bound, which differs from the requested one when that was 0
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int getOpenConnectionCount() {
+        return openConnections.size();
+    }
+
+    public long getAcceptedConnectionCount() {
+        return acceptedCount.get();
+    }
+
+    // Blocks until the server is closed
+    public void awaitClose() throws InterruptedException {
+        acceptThread.join();
+    }
+
+    // Stops accepting and disconnects every client
+    @Override
+    public void close() {
+        if (serverSocket == null) {
+            return;
+        }
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            // Closing anyway
+        }
+        for (Socket socket : openConnections) {
+            closeQuietly(socket);
+        }
+    }
+
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (IOException e) {
+                if (serverSocket.isClosed()) {
+                    return;
+                }
+                continue; // The client went away before we accepted it
+            }
+            openConnections.add(socket);
+            long connectionNumber = acceptedCount.incrementAndGet();
+            Thread.ofVirtual().name("league-client-" + connectionNumber).start(() -> serve(socket));
+            if (serverSocket.isClosed()) {
+                closeQuietly(socket); // close() may have missed it
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try {
+            socket.setTcpNoDelay(true);
+            BoundedLineReader input = new BoundedLineReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8), CONNECTION_BUFFER_SIZE);
+            BufferedWriter output = new BufferedWriter(
+                    new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), CONNECTION_BUFFER_SIZE);
+            new LeagueCommandInterpreter(leagueManager, false).run(input, output);
+        } catch (IOException e) {
+            // The client disconnected or the server is closing; there is no one left to report it to
+        } finally {
+            openConnections.remove(socket);
+            closeQuietly(socket);
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // Already closed
+        }
+    }
+}
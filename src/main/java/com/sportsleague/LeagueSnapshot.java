@@ -0,0 +1,162 @@
+package com.sportsleague;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Immutable, versioned view of a whole league: every team's roster and every player's team as they stood
+// after one mutation. Snapshots share structure with each other, so publishing a new one after each change
+// copies only a few small nodes. Reading one takes no locks, and a player is always on the roster of the
+// team its team id names. Players are returned as detached copies carrying the snapshot's team id.
+public class LeagueSnapshot {
+    private final long version;
+    private final PlayerStore playerStore;
+    private final PersistentVector<TeamEntry> teams;
+    private final PersistentIntVector teamIdsByPlayer;
+    private final int assignedCount;
+
+    private LeagueSnapshot(long version, PlayerStore playerStore, PersistentVector<TeamEntry> teams,
+                           PersistentIntVector teamIdsByPlayer, int assignedCount) {
+        this.version = version;
+        this.playerStore = playerStore;
+        this.teams = teams;
+        this.teamIdsByPlayer = teamIdsByPlayer;
+        this.assignedCount = assignedCount;
+    }
+
+    // A league with no teams whose existing players are all unassigned
+    static LeagueSnapshot initial(PlayerStore playerStore) {
+        return new LeagueSnapshot(0, playerStore, PersistentVector.empty(),
+                PersistentIntVector.filled(playerStore.size(), -1), 0);
+    }
+
+    LeagueSnapshot withTeam(Team team) {
+        TeamEntry entry = new TeamEntry(team.getTeamName(), team.getCity(), new int[0]);
+        return new LeagueSnapshot(version + 1, playerStore, teams.append(entry), teamIdsByPlayer, assignedCount);
+    }
+
+    LeagueSnapshot withPlayer() {
+        return new LeagueSnapshot(version + 1, playerStore, teams, teamIdsByPlayer.append(-1), assignedCount);
+    }
+
+    LeagueSnapshot withPlayerAdded(int teamId, int playerId) {
+        TeamEntry entry = teams.get(teamId - 1);
+        int[] roster = Arrays.copyOf(entry.rosterIds, entry.rosterIds.length + 1);
+        roster[entry.rosterIds.length] = playerId;
+        return new LeagueSnapshot(version + 1, playerStore,
+                teams.set(teamId - 1, new TeamEntry(entry.name, entry.city, roster)),
+                teamIdsByPlayer.set(playerId - 1, teamId), assignedCount + 1);
+    }
+
+    LeagueSnapshot withPlayerRemoved(int teamId, int playerId) {
+        TeamEntry entry = teams.get(teamId - 1);
+        int[] roster = new int[entry.rosterIds.length - 1];
+        int count = 0;
+        for (int rosterId : entry.rosterIds) {
+            if (rosterId != playerId) {
+                roster[count++] = rosterId;
+            }
+        }
+        return new LeagueSnapshot(version + 1, playerStore,
+                teams.set(teamId - 1, new TeamEntry(entry.name, entry.city, roster)),
+                teamIdsByPlayer.set(playerId - 1, -1), assignedCount - 1);
+    }
+
+    // Increases by one with every change to the league
+    public long getVersion() {
+        return version;
+    }
+
+    public int getTotalTeams() {
+        return teams.size();
+    }
+
+    public int getTotalPlayers() {
+        return teamIdsByPlayer.size();
+    }
+
+    public int getAssignedPlayers() {
+        return assignedCount;
+    }
+
+    public int getUnassignedPlayerCount() {
+        return teamIdsByPlayer.size() - assignedCount;
+    }
+
+    public String getTeamName(int teamId) {
+        TeamEntry entry = findTeam(teamId);
+        return entry == null ? null : entry.name;
+    }
+
+    public String getTeamCity(int teamId) {
+        TeamEntry entry = findTeam(teamId);
+        return entry == null ? null : entry.city;
+    }
+
+    // The team's players in the order they joined, or an empty list for an unknown team
+    public List<Player> getRoster(int teamId) {
+        TeamEntry entry = findTeam(teamId);
+        if (entry == null) {
+            return new ArrayList<>();
+        }
+        List<Player> roster = new ArrayList<>(entry.rosterIds.length);
+        for (int playerId : entry.rosterIds) {
+            roster.add(detachedPlayer(playerId, teamId));
+        }
+        return roster;
+    }
+
+    // The team's player ids in the order they joined, or an empty array for an unknown team
+    int[] getRosterIds(int teamId) {
+        TeamEntry entry = findTeam(teamId);
+        return entry == null ? new int[0] : entry.rosterIds.clone();
+    }
+
+    // The player's team in this snapshot, or -1 if unassigned or unknown
+    public int getTeamId(int playerId) {
+        if (playerId < 1 || playerId > teamIdsByPlayer.size()) {
+            return -1;
+        }
+        return teamIdsByPlayer.get(playerId - 1);
+    }
+
+    public Player getPlayer(int playerId) {
+        if (playerId < 1 || playerId > teamIdsByPlayer.size()) {
+            return null;
+        }
+        return detachedPlayer(playerId, teamIdsByPlayer.get(playerId - 1));
+    }
+
+    private TeamEntry findTeam(int teamId) {
+        if (teamId < 1 || teamId > teams.size()) {
+            return null;
+        }
+        return teams.get(teamId - 1);
+    }
+
+    // Names never change once registered, so they are read straight from the store
+    private Player detachedPlayer(int playerId, int teamId) {
+        Player player = new Player(playerId, playerStore.getFirstName(playerId), playerStore.getSurname(playerId),
+                playerStore.getPosition(playerId));
+        player.setTeamId(teamId);
+        return player;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LeagueSnapshot{version=%d, teams=%d, players=%d, assigned=%d}",
+                version, getTotalTeams(), getTotalPlayers(), assignedCount);
+    }
+
+    private static final class TeamEntry {
+        private final String name;
+        private final String city;
+        private final int[] rosterIds;
+
+        TeamEntry(String name, String city, int[] rosterIds) {
+            this.name = name;
+            this.city = city;
+            this.rosterIds = rosterIds;
+        }
+    }
+}
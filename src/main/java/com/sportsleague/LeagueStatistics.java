@@ -0,0 +1,83 @@
+package com.sportsleague;
+
+import java.util.Collections;
+import java.util.Map;
+
+// League totals as read at one moment. Each figure is maintained as the league changes, but while other
+// threads are changing rosters the figures may be read a few changes apart from each other.
+public class LeagueStatistics {
+    private final int totalTeams;
+    private final int totalPlayers;
+    private final int assignedPlayers;
+    private final int[] teamsByRosterSize;
+    private final Map<String, Integer> teamsByCity;
+    private final Map<String, Integer> playersByCity;
+    private final Map<String, Integer> playersByPosition;
+    private final Map<String, Integer> unassignedPlayersByPosition;
+
+    LeagueStatistics(int totalTeams, int totalPlayers, int assignedPlayers, int[] teamsByRosterSize,
+                     Map<String, Integer> teamsByCity, Map<String, Integer> playersByCity,
+                     Map<String, Integer> playersByPosition, Map<String, Integer> unassignedPlayersByPosition) {
+        this.totalTeams = totalTeams;
+        this.totalPlayers = totalPlayers;
+        this.assignedPlayers = assignedPlayers;
+        this.teamsByRosterSize = teamsByRosterSize;
+        this.teamsByCity = Collections.unmodifiableMap(teamsByCity);
+        this.playersByCity = Collections.unmodifiableMap(playersByCity);
+        this.playersByPosition = Collections.unmodifiableMap(playersByPosition);
+        this.unassignedPlayersByPosition = Collections.unmodifiableMap(unassignedPlayersByPosition);
+    }
+
+    public int getTotalTeams() {
+        return totalTeams;
+    }
+
+    public int getTotalPlayers() {
+        return totalPlayers;
+    }
+
+    public int getAssignedPlayers() {
+        return assignedPlayers;
+    }
+
+    public int getUnassignedPlayers() {
+        return totalPlayers - assignedPlayers;
+    }
+
+    public int getFullTeams() {
+        return teamsByRosterSize[Team.MAX_PLAYERS];
+    }
+
+    // Number of teams with exactly rosterSize players, from 0 to Team.MAX_PLAYERS
+    public int getTeamsWithRosterSize(int rosterSize) {
+        return rosterSize < 0 || rosterSize >= teamsByRosterSize.length ? 0 : teamsByRosterSize[rosterSize];
+    }
+
+    // Assigned players as a share of all roster spots, from 0 to 1
+    public double getRosterFill() {
+        return totalTeams == 0 ? 0 : (double) assignedPlayers / ((long) totalTeams * Team.MAX_PLAYERS);
+    }
+
+    public Map<String, Integer> getTeamsByCity() {
+        return teamsByCity;
+    }
+
+    // Players on the rosters of each city's teams
+    public Map<String, Integer> getPlayersByCity() {
+        return playersByCity;
+    }
+
+    public Map<String, Integer> getPlayersByPosition() {
+        return playersByPosition;
+    }
+
+    public Map<String, Integer> getUnassignedPlayersByPosition() {
+        return unassignedPlayersByPosition;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LeagueStatistics{teams=%d, players=%d, assigned=%d, fullTeams=%d}",
+                totalTeams, totalPlayers, assignedPlayers, getFullTeams());
+    }
+}
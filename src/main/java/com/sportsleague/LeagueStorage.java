@@ -0,0 +1,155 @@
+package com.sportsleague;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Durable home for a LeagueManager. Every mutation is appended to a binary journal, which a background
+// thread group-commits every syncIntervalMillis. Once checkpointEveryRecords records have accumulated the
+// journal is compacted into a memory-mapped snapshot, so a restart maps the snapshot and replays only the tail.
+public class LeagueStorage implements AutoCloseable {
+    public static final long DEFAULT_SYNC_INTERVAL_MILLIS = 10;
+    public static final long DEFAULT_CHECKPOINT_EVERY_RECORDS = 1_000_000;
+
+    private final Path directory;
+    private final LeagueManager leagueManager;
+    private final LeagueJournal journal;
+    private final long checkpointEveryRecords;
+    private final ScheduledExecutorService flusher;
+    private volatile Exception lastFailure;
+
+    private LeagueStorage(Path directory, LeagueManager leagueManager, LeagueJournal journal,
+                          long syncIntervalMillis, long checkpointEveryRecords) {
+        this.directory = directory;
+        this.leagueManager = leagueManager;
+        this.journal = journal;
+        this.checkpointEveryRecords = checkpointEveryRecords;
+        if (syncIntervalMillis > 0) {
+            this.flusher = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "league-journal-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.flusher.scheduleWithFixedDelay(this::backgroundFlush, syncIntervalMillis, syncIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.flusher = null;
+        }
+    }
+
+    public static LeagueStorage open(Path directory) throws IOException {
+        return open(directory, DEFAULT_SYNC_INTERVAL_MILLIS, DEFAULT_CHECKPOINT_EVERY_RECORDS);
+    }
+
+    // A syncIntervalMillis of 0 or less fsyncs every mutation before it returns
+    public static LeagueStorage open(Path directory, long syncIntervalMillis, long checkpointEveryRecords) throws IOException {
+        Files.createDirectories(directory);
+        LeagueManager leagueManager;
+        long firstGeneration = 0;
+        Path snapshot = directory.resolve(SnapshotFile.FILE_NAME);
+        if (Files.exists(snapshot)) {
+            long[] snapshotGeneration = new long[1];
+            leagueManager = SnapshotFile.open(snapshot, snapshotGeneration);
+            firstGeneration = snapshotGeneration[0];
+        } else {
+            leagueManager = new LeagueManager();
+        }
+
+        long nextGeneration = firstGeneration;
+        for (long generation : journalGenerations(directory)) {
+            if (generation >= firstGeneration) {
+                LeagueJournal.replay(LeagueJournal.fileFor(directory, generation), leagueManager);
+            }
+            nextGeneration = Math.max(nextGeneration, generation + 1);
+        }
+
+        LeagueJournal journal = new LeagueJournal(directory, nextGeneration, syncIntervalMillis <= 0);
+        leagueManager.addMutationListener(journal);
+        return new LeagueStorage(directory, leagueManager, journal, syncIntervalMillis, checkpointEveryRecords);
+    }
+
+    public LeagueManager getLeagueManager() {
+        return leagueManager;
+    }
+
+    // Makes every mutation so far durable without waiting for the next group commit
+    public void sync() {
+        journal.flush();
+    }
+
+    // Writes a snapshot of the current state and deletes the journal files it makes redundant. The journal is
+    // rotated and the state captured with mutations held off, so every change is in exactly one of the two.
+    public synchronized void checkpoint() throws IOException {
+        long generation;
+        LeagueSnapshot state;
+        leagueManager.holdMutations();
+        try {
+            generation = journal.rotate();
+            state = leagueManager.getSnapshot();
+        } finally {
+            leagueManager.releaseMutations();
+        }
+        SnapshotFile.write(directory, leagueManager, state, generation);
+        for (long oldGeneration : journalGenerations(directory)) {
+            if (oldGeneration < generation) {
+                Files.deleteIfExists(LeagueJournal.fileFor(directory, oldGeneration));
+            }
+        }
+    }
+
+    // The most recent failure of the background flusher, or null if it has never failed
+    public Exception getLastFailure() {
+        return lastFailure;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            checkpoint();
+            leagueManager.removeMutationListener(journal);
+            journal.close();
+        }
+    }
+
+    private void backgroundFlush() {
+        try {
+            journal.flush();
+            if (journal.getRecordCount() >= checkpointEveryRecords) {
+                checkpoint();
+            }
+        } catch (IOException | UncheckedIOException e) {
+            lastFailure = e;
+        }
+    }
+
+    private static List<Long> journalGenerations(Path directory) throws IOException {
+        List<Long> generations = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "journal-*.log")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    generations.add(Long.parseLong(name.substring("journal-".length(), name.length() - ".log".length())));
+                } catch (NumberFormatException e) {
+                    // Not one of ours
+                }
+            }
+        }
+        Collections.sort(generations);
+        return generations;
+    }
+}
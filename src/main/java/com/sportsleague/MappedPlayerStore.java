@@ -0,0 +1,111 @@
+package com.sportsleague;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Player store over the fixed-size player records of a memory-mapped snapshot. Nothing is read when the
+// store is opened; a Player object is only created the first time its id is requested. Players registered
+// after opening are kept on the heap alongside the materialized ones.
+class MappedPlayerStore implements PlayerStore {
+    private static final int PAGE_SHIFT = 12;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+
+    private final ByteBuffer playerTable;
+    private final ByteBuffer stringHeap;
+    private final int mappedCount;
+    private volatile Page[] pages;
+    private int size;
+
+    MappedPlayerStore(ByteBuffer playerTable, ByteBuffer stringHeap, int mappedCount) {
+        this.playerTable = playerTable;
+        this.stringHeap = stringHeap;
+        this.mappedCount = mappedCount;
+        this.pages = new Page[1];
+        this.size = mappedCount;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Player get(int playerId) {
+        AtomicReferenceArray<Player> page = pageFor(playerId);
+        int slot = playerId & (PAGE_SIZE - 1);
+        Player player = page.get(slot);
+        if (player == null) {
+            Player materialized = new Player(playerId, getFirstName(playerId), getSurname(playerId), getPosition(playerId));
+            // Another reader may have materialized the same player; everyone must share one instance
+            player = page.compareAndExchange(slot, null, materialized);
+            if (player == null) {
+                player = materialized;
+            }
+        }
+        return player;
+    }
+
+    @Override
+    public String getFirstName(int playerId) {
+        return playerId <= mappedCount ? readString(playerId, 0) : get(playerId).getFirstName();
+    }
+
+    @Override
+    public String getSurname(int playerId) {
+        return playerId <= mappedCount ? readString(playerId, 4) : get(playerId).getSurname();
+    }
+
+    @Override
+    public String getPosition(int playerId) {
+        return playerId <= mappedCount ? readString(playerId, 8) : get(playerId).getPosition();
+    }
+
+    @Override
+    public Player add(String firstName, String surname, String position) {
+        int playerId = size + 1;
+        Player player = new Player(playerId, firstName, surname, position);
+        pageFor(playerId).set(playerId & (PAGE_SIZE - 1), player);
+        size = playerId;
+        return player;
+    }
+
+    private String readString(int playerId, int fieldOffset) {
+        int reference = playerTable.getInt((playerId - 1) * SnapshotFile.PLAYER_RECORD_SIZE + fieldOffset);
+        int length = stringHeap.getInt(reference);
+        byte[] bytes = new byte[length];
+        stringHeap.get(reference + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private AtomicReferenceArray<Player> pageFor(int playerId) {
+        Page[] currentPages = pages;
+        int pageIndex = playerId >>> PAGE_SHIFT;
+        if (pageIndex < currentPages.length && currentPages[pageIndex] != null) {
+            return currentPages[pageIndex].players;
+        }
+        return createPage(pageIndex);
+    }
+
+    private synchronized AtomicReferenceArray<Player> createPage(int pageIndex) {
+        Page[] currentPages = pages;
+        if (pageIndex >= currentPages.length) {
+            currentPages = Arrays.copyOf(currentPages, Math.max(currentPages.length * 2, pageIndex + 1));
+        }
+        if (currentPages[pageIndex] == null) {
+            currentPages[pageIndex] = new Page();
+        }
+        pages = currentPages;
+        return currentPages[pageIndex].players;
+    }
+
+    // Holds a page so the pages can be kept in a plain array, which can't have a generic element type
+    private static final class Page {
+        private final AtomicReferenceArray<Player> players;
+
+        Page() {
+            this.players = new AtomicReferenceArray<>(PAGE_SIZE);
+        }
+    }
+}
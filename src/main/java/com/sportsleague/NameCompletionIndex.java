@@ -0,0 +1,172 @@
+package com.sportsleague;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+// Prefix completion over names. Every word of a name, folded to lower case, is stored once in a trie whose
+// children are kept in letter order, with the ids of the names that contain it; each node also counts
+// the ids below it. Completing walks to the node of the query word with the fewest ids below it and lists
+// its subtree depth first, so the matches come out in alphabetical order of that word and the walk stops
+// as soon as there are enough. Other query words are checked against the folded full names.
+class NameCompletionIndex {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final TrieNode root;
+    private String[] namesById;
+
+    NameCompletionIndex() {
+        this.root = new TrieNode();
+        this.namesById = new String[INITIAL_CAPACITY];
+    }
+
+    // Ids must be added in ascending order
+    void add(int id, String name) {
+        if (id >= namesById.length) {
+            namesById = Arrays.copyOf(namesById, Math.max(namesById.length * 2, id + 1));
+        }
+        String[] words = LeagueManager.foldCase(name.trim()).split("\\s+");
+        namesById[id] = String.join(" ", words);
+        for (String word : words) {
+            TrieNode node = root;
+            for (int i = 0; i < word.length(); i++) {
+                node = node.childFor(word.charAt(i));
+            }
+            if (node.addId(id)) {
+                // Counted per word, so a count can exceed the distinct ids below; it only has to tell the
+                // walk which query word is the most selective
+                TrieNode ancestor = root;
+                ancestor.subtreeIds++;
+                for (int i = 0; i < word.length(); i++) {
+                    ancestor = ancestor.child(word.charAt(i));
+                    ancestor.subtreeIds++;
+                }
+            }
+        }
+    }
+
+    // Returns up to limit ids of names with a word starting with each word of the prefix, ignoring case
+    int[] complete(String prefix, int limit) {
+        String[] words = LeagueManager.foldCase(prefix.trim()).split("\\s+");
+        if (words[0].isEmpty() || limit <= 0) {
+            return new int[0];
+        }
+
+        TrieNode start = null;
+        for (String word : words) {
+            TrieNode node = find(word);
+            if (node == null) {
+                return new int[0];
+            }
+            if (start == null || node.subtreeIds < start.subtreeIds) {
+                start = node;
+            }
+        }
+
+        int[] ids = new int[Math.min(limit, start.subtreeIds)];
+        Set<Integer> listed = new HashSet<>();
+        int count = collect(start, words, ids, 0, listed);
+        return count == ids.length ? ids : Arrays.copyOf(ids, count);
+    }
+
+    private int collect(TrieNode node, String[] words, int[] ids, int count, Set<Integer> listed) {
+        for (int i = 0; i < node.idCount && count < ids.length; i++) {
+            int id = node.ids[i];
+            if ((words.length == 1 || containsWordsStartingWith(namesById[id], words)) && listed.add(id)) {
+                ids[count++] = id;
+            }
+        }
+        for (int c = 0; c < node.childCount && count < ids.length; c++) {
+            count = collect(node.children[c], words, ids, count, listed);
+        }
+        return count;
+    }
+
+    private TrieNode find(String word) {
+        TrieNode node = root;
+        for (int i = 0; i < word.length() && node != null; i++) {
+            node = node.child(word.charAt(i));
+        }
+        return node;
+    }
+
+    private static boolean containsWordsStartingWith(String name, String[] words) {
+        for (String word : words) {
+            boolean found = false;
+            for (int start = 0; start >= 0 && !found; start = nextWordStart(name, start)) {
+                found = name.startsWith(word, start);
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Names are stored with single spaces between words
+    private static int nextWordStart(String name, int start) {
+        int space = name.indexOf(' ', start);
+        return space < 0 ? -1 : space + 1;
+    }
+
+    private static final class TrieNode {
+        // Most nodes are leaves or hold no ids, so they share these until they need their own
+        private static final char[] NO_LABELS = new char[0];
+        private static final TrieNode[] NO_CHILDREN = new TrieNode[0];
+        private static final int[] NO_IDS = new int[0];
+
+        private char[] labels;
+        private TrieNode[] children;
+        private int childCount;
+        private int[] ids;
+        private int idCount;
+        private int subtreeIds;
+
+        TrieNode() {
+            this.labels = NO_LABELS;
+            this.children = NO_CHILDREN;
+            this.childCount = 0;
+            this.ids = NO_IDS;
+            this.idCount = 0;
+            this.subtreeIds = 0;
+        }
+
+        TrieNode child(char label) {
+            int index = Arrays.binarySearch(labels, 0, childCount, label);
+            return index < 0 ? null : children[index];
+        }
+
+        // Children stay in letter order
+        TrieNode childFor(char label) {
+            int index = Arrays.binarySearch(labels, 0, childCount, label);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            if (childCount == children.length) {
+                int capacity = Math.max(2, childCount * 2);
+                labels = Arrays.copyOf(labels, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(labels, insertAt, labels, insertAt + 1, childCount - insertAt);
+            System.arraycopy(children, insertAt, children, insertAt + 1, childCount - insertAt);
+            TrieNode child = new TrieNode();
+            labels[insertAt] = label;
+            children[insertAt] = child;
+            childCount++;
+            return child;
+        }
+
+        // Returns false if the id is already listed, as for a name that repeats a word
+        boolean addId(int id) {
+            if (idCount > 0 && ids[idCount - 1] == id) {
+                return false;
+            }
+            if (idCount == ids.length) {
+                ids = Arrays.copyOf(ids, Math.max(1, idCount * 2));
+            }
+            ids[idCount++] = id;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.sportsleague;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.VarHandle;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// Player store whose records and name bytes live in native memory owned by a shared Arena, so even a huge
+// league leaves almost nothing for the garbage collector to scan. Only the page table and the position
+// dictionary are on the heap. get() returns a PlayerView over the native record. Every segment is freed
+// together by close(); any access after that fails with IllegalStateException.
+//
+// Record layout, RECORD_SIZE bytes per player: first name ref (long), surname ref (long),
+// position code (int), team id (int). A name ref packs the arena offset above a 16-bit length.
+class OffHeapPlayerStore implements PlayerView.Store {
+    private static final int PAGE_SHIFT = 12;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int RECORD_SIZE = 24;
+    private static final long FIRST_NAME_OFFSET = 0;
+    private static final long SURNAME_OFFSET = 8;
+    private static final long POSITION_OFFSET = 16;
+    private static final long TEAM_ID_OFFSET = 20;
+    private static final int CHUNK_SHIFT = 20;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int MAX_NAME_BYTES = 0xFFFF;
+    // Team ids are read and claimed in place with volatile and compare-and-set access, like Player's own
+    private static final VarHandle TEAM_ID = ValueLayout.JAVA_INT.varHandle();
+
+    private final Arena arena;
+    private volatile MemorySegment[] pages;
+    private volatile MemorySegment[] chunks;
+    private volatile String[] positions;
+    private final Map<String, Integer> positionCodes;
+    private long arenaSize;
+    private int size;
+
+    OffHeapPlayerStore() {
+        this.arena = Arena.ofShared();
+        this.pages = new MemorySegment[1];
+        this.chunks = new MemorySegment[0];
+        this.positions = new String[0];
+        this.positionCodes = new HashMap<>();
+        this.arenaSize = 0;
+        this.size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Player get(int playerId) {
+        return new PlayerView(this, playerId);
+    }
+
+    @Override
+    public String getFirstName(int playerId) {
+        return readName(recordFor(playerId).get(ValueLayout.JAVA_LONG, recordOffset(playerId) + FIRST_NAME_OFFSET));
+    }
+
+    @Override
+    public String getSurname(int playerId) {
+        return readName(recordFor(playerId).get(ValueLayout.JAVA_LONG, recordOffset(playerId) + SURNAME_OFFSET));
+    }
+
+    @Override
+    public String getPosition(int playerId) {
+        return positions[recordFor(playerId).get(ValueLayout.JAVA_INT, recordOffset(playerId) + POSITION_OFFSET)];
+    }
+
+    @Override
+    public Player add(String firstName, String surname, String position) {
+        int playerId = size + 1;
+        long firstNameRef = appendName(firstName);
+        long surnameRef = appendName(surname);
+
+        Integer positionCode = positionCodes.get(position);
+        if (positionCode == null) {
+            positionCode = positions.length;
+            String[] grown = Arrays.copyOf(positions, positions.length + 1);
+            grown[positionCode] = position;
+            positions = grown;
+            positionCodes.put(position, positionCode);
+        }
+
+        int pageIndex = playerId >>> PAGE_SHIFT;
+        MemorySegment[] currentPages = pages;
+        if (pageIndex >= currentPages.length) {
+            currentPages = Arrays.copyOf(currentPages, currentPages.length * 2);
+        }
+        if (currentPages[pageIndex] == null) {
+            currentPages[pageIndex] = arena.allocate((long) PAGE_SIZE * RECORD_SIZE, 8);
+        }
+        pages = currentPages;
+
+        MemorySegment page = currentPages[pageIndex];
+        long offset = recordOffset(playerId);
+        page.set(ValueLayout.JAVA_LONG, offset + FIRST_NAME_OFFSET, firstNameRef);
+        page.set(ValueLayout.JAVA_LONG, offset + SURNAME_OFFSET, surnameRef);
+        page.set(ValueLayout.JAVA_INT, offset + POSITION_OFFSET, positionCode);
+        page.set(ValueLayout.JAVA_INT, offset + TEAM_ID_OFFSET, -1);
+        size = playerId;
+        return new PlayerView(this, playerId);
+    }
+
+    @Override
+    public int getTeamId(int playerId) {
+        return (int) TEAM_ID.getVolatile(recordFor(playerId), recordOffset(playerId) + TEAM_ID_OFFSET);
+    }
+
+    @Override
+    public void setTeamId(int playerId, int teamId) {
+        TEAM_ID.setVolatile(recordFor(playerId), recordOffset(playerId) + TEAM_ID_OFFSET, teamId);
+    }
+
+    @Override
+    public boolean claimTeam(int playerId, int teamId) {
+        return TEAM_ID.compareAndSet(recordFor(playerId), recordOffset(playerId) + TEAM_ID_OFFSET, -1, teamId);
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    private MemorySegment recordFor(int playerId) {
+        return pages[playerId >>> PAGE_SHIFT];
+    }
+
+    private static long recordOffset(int playerId) {
+        return (long) (playerId & (PAGE_SIZE - 1)) * RECORD_SIZE;
+    }
+
+    private long appendName(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_NAME_BYTES) {
+            throw new IllegalArgumentException("Name is longer than " + MAX_NAME_BYTES + " bytes");
+        }
+        // Names never straddle two chunks
+        long chunkStart = arenaSize & ~(long) (CHUNK_SIZE - 1);
+        if (arenaSize + bytes.length > chunkStart + CHUNK_SIZE) {
+            arenaSize = chunkStart + CHUNK_SIZE;
+        }
+        int chunkIndex = (int) (arenaSize >>> CHUNK_SHIFT);
+        MemorySegment[] currentChunks = chunks;
+        if (chunkIndex >= currentChunks.length) {
+            currentChunks = Arrays.copyOf(currentChunks, chunkIndex + 1);
+            currentChunks[chunkIndex] = arena.allocate(CHUNK_SIZE, 1);
+            chunks = currentChunks;
+        }
+        MemorySegment.copy(bytes, 0, currentChunks[chunkIndex], ValueLayout.JAVA_BYTE, arenaSize & (CHUNK_SIZE - 1), bytes.length);
+        long reference = (arenaSize << 16) | bytes.length;
+        arenaSize += bytes.length;
+        return reference;
+    }
+
+    private String readName(long reference) {
+        long offset = reference >>> 16;
+        int length = (int) (reference & MAX_NAME_BYTES);
+        byte[] bytes = new byte[length];
+        MemorySegment.copy(chunks[(int) (offset >>> CHUNK_SHIFT)], ValueLayout.JAVA_BYTE, offset & (CHUNK_SIZE - 1), bytes, 0, length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
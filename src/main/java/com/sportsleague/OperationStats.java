@@ -0,0 +1,50 @@
+package com.sportsleague;
+
+// Point-in-time statistics for one LeagueOperation, with latencies in nanoseconds
+public class OperationStats {
+    private final String operation;
+    private final long count;
+    private final double opsPerSecond;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final long maxNanos;
+
+    public OperationStats(String operation, long count, double opsPerSecond, long p50Nanos, long p99Nanos, long maxNanos) {
+        this.operation = operation;
+        this.count = count;
+        this.opsPerSecond = opsPerSecond;
+        this.p50Nanos = p50Nanos;
+        this.p99Nanos = p99Nanos;
+        this.maxNanos = maxNanos;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getOpsPerSecond() {
+        return opsPerSecond;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s{count=%d, opsPerSecond=%.1f, p50=%dns, p99=%dns, max=%dns}",
+                operation, count, opsPerSecond, p50Nanos, p99Nanos, maxNanos);
+    }
+}
@@ -0,0 +1,91 @@
+package com.sportsleague;
+
+import java.util.Arrays;
+
+// Immutable int array stored as a 32-way trie. set and append copy only the path to the changed slot,
+// at most one 32-element node per level, and share every other node with the original, so old versions
+// stay valid and cost nothing to keep.
+final class PersistentIntVector {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private final int size;
+    // Bits of the index consumed above the leaves; 0 means the root is a leaf
+    private final int shift;
+    // int[] when shift is 0, otherwise Object[]
+    private final Object root;
+
+    private PersistentIntVector(int size, int shift, Object root) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+    }
+
+    // A vector of size copies of value. Every node is shared, so this takes O(log size) memory.
+    static PersistentIntVector filled(int size, int value) {
+        int[] leaf = new int[WIDTH];
+        Arrays.fill(leaf, value);
+        Object node = leaf;
+        int shift = 0;
+        while (capacity(shift) < size) {
+            Object[] branch = new Object[WIDTH];
+            Arrays.fill(branch, node);
+            node = branch;
+            shift += BITS;
+        }
+        return new PersistentIntVector(size, shift, node);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(int index) {
+        checkIndex(index);
+        Object node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = ((Object[]) node)[(index >>> level) & MASK];
+        }
+        return ((int[]) node)[index & MASK];
+    }
+
+    PersistentIntVector set(int index, int value) {
+        checkIndex(index);
+        return new PersistentIntVector(size, shift, setIn(root, shift, index, value));
+    }
+
+    PersistentIntVector append(int value) {
+        Object newRoot = root;
+        int newShift = shift;
+        if (size == capacity(shift)) {
+            Object[] grown = new Object[WIDTH];
+            grown[0] = root;
+            newRoot = grown;
+            newShift += BITS;
+        }
+        return new PersistentIntVector(size + 1, newShift, setIn(newRoot, newShift, size, value));
+    }
+
+    private static Object setIn(Object node, int shift, int index, int value) {
+        if (shift == 0) {
+            int[] leaf = node == null ? new int[WIDTH] : ((int[]) node).clone();
+            leaf[index & MASK] = value;
+            return leaf;
+        }
+        Object[] branch = node == null ? new Object[WIDTH] : ((Object[]) node).clone();
+        int slot = (index >>> shift) & MASK;
+        branch[slot] = setIn(branch[slot], shift - BITS, index, value);
+        return branch;
+    }
+
+    private static long capacity(int shift) {
+        return 1L << (shift + BITS);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+}
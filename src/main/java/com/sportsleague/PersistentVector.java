@@ -0,0 +1,67 @@
+package com.sportsleague;
+
+// Immutable object array stored as a 32-way trie, with the same path-copying updates as PersistentIntVector
+final class PersistentVector<T> {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, 0, new Object[WIDTH]);
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+
+    private PersistentVector(int size, int shift, Object[] root) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    T get(int index) {
+        checkIndex(index);
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return (T) node[index & MASK];
+    }
+
+    PersistentVector<T> set(int index, T value) {
+        checkIndex(index);
+        return new PersistentVector<>(size, shift, setIn(root, shift, index, value));
+    }
+
+    PersistentVector<T> append(T value) {
+        Object[] newRoot = root;
+        int newShift = shift;
+        if (size == 1L << (shift + BITS)) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newShift += BITS;
+        }
+        return new PersistentVector<>(size + 1, newShift, setIn(newRoot, newShift, size, value));
+    }
+
+    private static Object[] setIn(Object[] node, int shift, int index, Object value) {
+        Object[] copy = node == null ? new Object[WIDTH] : node.clone();
+        int slot = (index >>> shift) & MASK;
+        copy[slot] = shift == 0 ? value : setIn((Object[]) copy[slot], shift - BITS, index, value);
+        return copy;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+}
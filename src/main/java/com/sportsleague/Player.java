@@ -1,11 +1,24 @@
 package com.sportsleague;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
 public class Player {
+    private static final VarHandle TEAM_ID;
+
+    static {
+        try {
+            TEAM_ID = MethodHandles.lookup().findVarHandle(Player.class, "teamId", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     private int playerId;
     private String firstName;
     private String surName;
     private String position;
-    private int teamId;
+    private volatile int teamId;
 
     public Player(int playerId, String firstName, String surName, String position) {
         this.playerId = playerId;
@@ -41,12 +54,17 @@ public class Player {
     }
 
     public boolean isAssignedToTeam() {
-        return teamId != -1;
+        return getTeamId() != -1;
+    }
+
+    // Atomically moves an unassigned player onto a team, so two teams can't both claim the same player
+    boolean claimTeam(int newTeamId) {
+        return TEAM_ID.compareAndSet(this, -1, newTeamId);
     }
 
     @Override
     public String toString() {
         return String.format("Player{id=%d, firstName='%s', surName='%s', position='%s', teamId=%d}",
-                playerId, firstName, surName, position, teamId);
+                getPlayerId(), getFirstName(), getSurname(), getPosition(), getTeamId());
     }
-}
\ No newline at end of file
+}
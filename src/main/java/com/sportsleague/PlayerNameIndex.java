@@ -0,0 +1,136 @@
+package com.sportsleague;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// Trigram inverted index over lowercased first names and surnames. Posting lists hold player ids
+// in ascending order because players are indexed in registration order.
+class PlayerNameIndex {
+    private static final int GRAM_LENGTH = 3;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<Long, PostingList> postings;
+    // Lowercased names cached by player id, so verifying a candidate allocates nothing
+    private String[] lowerFirstNames;
+    private String[] lowerSurnames;
+    private int maxPlayerId;
+
+    PlayerNameIndex() {
+        this.postings = new HashMap<>();
+        this.lowerFirstNames = new String[INITIAL_CAPACITY];
+        this.lowerSurnames = new String[INITIAL_CAPACITY];
+        this.maxPlayerId = 0;
+    }
+
+    void add(int playerId, String firstName, String surname) {
+        if (playerId >= lowerFirstNames.length) {
+            int newCapacity = Math.max(lowerFirstNames.length * 2, playerId + 1);
+            lowerFirstNames = Arrays.copyOf(lowerFirstNames, newCapacity);
+            lowerSurnames = Arrays.copyOf(lowerSurnames, newCapacity);
+        }
+        String lowerFirst = firstName.toLowerCase();
+        String lowerSurname = surname.toLowerCase();
+        lowerFirstNames[playerId] = lowerFirst;
+        lowerSurnames[playerId] = lowerSurname;
+        maxPlayerId = Math.max(maxPlayerId, playerId);
+
+        addGrams(playerId, lowerFirst);
+        addGrams(playerId, lowerSurname);
+    }
+
+    // Returns the ids of players whose first name or surname contains the term, ignoring case, in ascending order
+    int[] search(String term) {
+        String lowerTerm = term.toLowerCase();
+        if (lowerTerm.length() < GRAM_LENGTH) {
+            return scan(lowerTerm);
+        }
+
+        int gramCount = lowerTerm.length() - GRAM_LENGTH + 1;
+        PostingList[] lists = new PostingList[gramCount];
+        for (int i = 0; i < gramCount; i++) {
+            PostingList list = postings.get(gramKey(lowerTerm, i));
+            if (list == null) {
+                return new int[0];
+            }
+            lists[i] = list;
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+
+        int[] candidates = Arrays.copyOf(lists[0].ids, lists[0].size);
+        int candidateCount = candidates.length;
+        for (int i = 1; i < lists.length && candidateCount > 0; i++) {
+            candidateCount = intersect(candidates, candidateCount, lists[i]);
+        }
+
+        int matchCount = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            if (matches(candidates[i], lowerTerm)) {
+                candidates[matchCount++] = candidates[i];
+            }
+        }
+        return Arrays.copyOf(candidates, matchCount);
+    }
+
+    private int[] scan(String lowerTerm) {
+        int[] results = new int[INITIAL_CAPACITY];
+        int count = 0;
+        for (int playerId = 1; playerId <= maxPlayerId; playerId++) {
+            if (lowerFirstNames[playerId] != null && matches(playerId, lowerTerm)) {
+                if (count == results.length) {
+                    results = Arrays.copyOf(results, count * 2);
+                }
+                results[count++] = playerId;
+            }
+        }
+        return Arrays.copyOf(results, count);
+    }
+
+    private boolean matches(int playerId, String lowerTerm) {
+        return lowerFirstNames[playerId].contains(lowerTerm) || lowerSurnames[playerId].contains(lowerTerm);
+    }
+
+    private void addGrams(int playerId, String lowerName) {
+        for (int i = 0; i + GRAM_LENGTH <= lowerName.length(); i++) {
+            postings.computeIfAbsent(gramKey(lowerName, i), key -> new PostingList()).add(playerId);
+        }
+    }
+
+    // Keeps the candidates that also appear in the posting list, compacting them in place
+    private static int intersect(int[] candidates, int candidateCount, PostingList list) {
+        int kept = 0;
+        int j = 0;
+        for (int i = 0; i < candidateCount && j < list.size; i++) {
+            int candidate = candidates[i];
+            while (j < list.size && list.ids[j] < candidate) {
+                j++;
+            }
+            if (j < list.size && list.ids[j] == candidate) {
+                candidates[kept++] = candidate;
+            }
+        }
+        return kept;
+    }
+
+    private static long gramKey(String value, int offset) {
+        return ((long) value.charAt(offset) << 32)
+                | ((long) value.charAt(offset + 1) << 16)
+                | value.charAt(offset + 2);
+    }
+
+    private static class PostingList {
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int playerId) {
+            // A gram can occur several times in one player's names; ids arrive in ascending order
+            if (size > 0 && ids[size - 1] == playerId) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = playerId;
+        }
+    }
+}
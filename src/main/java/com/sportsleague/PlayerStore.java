@@ -0,0 +1,25 @@
+package com.sportsleague;
+
+// Storage engine behind LeagueManager's players. Player ids run from 1 to size() in registration order.
+// add() is only called under the league's registry write lock, but get() may be called from many threads
+// at once. Every Player returned for an id must be equal and share one team id, so claiming the player for
+// one team is seen through all of them. The field accessors let callers read a player without forcing a
+// store to materialize a Player object for it. Once a player has been added, get() and the field accessors
+// for its id must also work without the registry lock, as LeagueSnapshot reads them that way.
+interface PlayerStore {
+    int size();
+
+    Player get(int playerId);
+
+    String getFirstName(int playerId);
+
+    String getSurname(int playerId);
+
+    String getPosition(int playerId);
+
+    Player add(String firstName, String surname, String position);
+
+    // Releases any memory the store holds outside the heap
+    default void close() {
+    }
+}
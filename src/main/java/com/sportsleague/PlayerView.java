@@ -0,0 +1,66 @@
+package com.sportsleague;
+
+// A Player that holds nothing but its id and reads everything else from its store. Views of the same player
+// are equal, and team changes through any of them are seen by all.
+class PlayerView extends Player {
+    private final Store store;
+
+    PlayerView(Store store, int playerId) {
+        super(playerId, null, null, null);
+        this.store = store;
+    }
+
+    @Override
+    public String getFirstName() {
+        return store.getFirstName(getPlayerId());
+    }
+
+    @Override
+    public String getSurname() {
+        return store.getSurname(getPlayerId());
+    }
+
+    @Override
+    public String getPosition() {
+        return store.getPosition(getPlayerId());
+    }
+
+    @Override
+    public int getTeamId() {
+        return store.getTeamId(getPlayerId());
+    }
+
+    @Override
+    public void setTeamId(int teamId) {
+        store.setTeamId(getPlayerId(), teamId);
+    }
+
+    @Override
+    boolean claimTeam(int newTeamId) {
+        return store.claimTeam(getPlayerId(), newTeamId);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof PlayerView)) {
+            return false;
+        }
+        PlayerView otherView = (PlayerView) other;
+        return store == otherView.store && getPlayerId() == otherView.getPlayerId();
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(getPlayerId());
+    }
+
+    // A player store that keeps team ids itself rather than in Player objects
+    interface Store extends PlayerStore {
+        int getTeamId(int playerId);
+
+        void setTeamId(int playerId, int teamId);
+
+        // Moves an unassigned player onto a team; fails if the player is already on one
+        boolean claimTeam(int playerId, int teamId);
+    }
+}
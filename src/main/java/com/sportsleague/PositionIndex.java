@@ -0,0 +1,174 @@
+package com.sportsleague;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+
+// Players grouped by position, ignoring case and surrounding spaces. Each position keeps a bit set of its
+// players plus counts of all and of unassigned ones, so a faceted count is one read and a filtered list
+// only visits the position's players, a word of 64 at a time. Registrations must hold the registry write
+// lock and lookups the read lock; assignment changes may arrive concurrently from different teams.
+//
+// Players loaded from a snapshot come with their position codes and per-position counts, so opening one
+// does no work per player: their codes are read from the snapshot when needed, and they are added to the
+// bit sets by the first filtered list.
+class PositionIndex {
+    private static final int INITIAL_CAPACITY = 16;
+
+    // Exact spellings seen so far, so registering a player only folds case for a new spelling
+    private final Map<String, Integer> codesBySpelling;
+    private final Map<String, Integer> codesByKey;
+    private volatile Position[] positions;
+    // Players 1 to loadedCount came from a snapshot; codesByPlayer covers the ones registered since
+    private final IntUnaryOperator loadedCodes;
+    private final int loadedCount;
+    private volatile boolean loadedPlayersListed;
+    private volatile int[] codesByPlayer;
+
+    PositionIndex() {
+        this(List.of(), new int[0], playerId -> 0, 0);
+    }
+
+    // Positions in code order with their player counts, for players 1 to loadedCount all unassigned
+    PositionIndex(List<String> positionNames, int[] playerCounts, IntUnaryOperator loadedCodes, int loadedCount) {
+        this.codesBySpelling = new HashMap<>();
+        this.codesByKey = new HashMap<>();
+        this.positions = new Position[positionNames.size()];
+        for (int code = 0; code < positions.length; code++) {
+            String name = positionNames.get(code);
+            positions[code] = new Position(name);
+            positions[code].playerCount.set(playerCounts[code]);
+            positions[code].unassignedCount.set(playerCounts[code]);
+            codesByKey.put(LeagueManager.foldCase(name), code);
+        }
+        this.loadedCodes = loadedCodes;
+        this.loadedCount = loadedCount;
+        this.loadedPlayersListed = loadedCount == 0;
+        this.codesByPlayer = new int[INITIAL_CAPACITY];
+    }
+
+    // For a store that already holds players, reading each one's position
+    static PositionIndex of(PlayerStore playerStore) {
+        PositionIndex index = new PositionIndex();
+        for (int playerId = 1; playerId <= playerStore.size(); playerId++) {
+            index.playerRegistered(playerId, playerStore.getPosition(playerId));
+        }
+        return index;
+    }
+
+    void playerRegistered(int playerId, String position) {
+        Integer code = codesBySpelling.get(position);
+        if (code == null) {
+            String key = LeagueManager.foldCase(position.trim());
+            code = codesByKey.get(key);
+            if (code == null) {
+                code = positions.length;
+                Position[] grown = Arrays.copyOf(positions, code + 1);
+                grown[code] = new Position(position.trim());
+                positions = grown;
+                codesByKey.put(key, code);
+            }
+            codesBySpelling.put(position, code);
+        }
+
+        int slot = playerId - loadedCount;
+        int[] currentCodes = codesByPlayer;
+        if (slot >= currentCodes.length) {
+            currentCodes = Arrays.copyOf(currentCodes, Math.max(currentCodes.length * 2, slot + 1));
+        }
+        currentCodes[slot] = code;
+        codesByPlayer = currentCodes;
+
+        Position entry = positions[code];
+        entry.players.set(playerId);
+        entry.playerCount.incrementAndGet();
+        entry.unassignedCount.incrementAndGet();
+    }
+
+    void playerAssigned(int playerId) {
+        positions[codeOfPlayer(playerId)].unassignedCount.decrementAndGet();
+    }
+
+    void playerUnassigned(int playerId) {
+        positions[codeOfPlayer(playerId)].unassignedCount.incrementAndGet();
+    }
+
+    // Position codes in the order the positions were first registered
+    int getPositionCount() {
+        return positions.length;
+    }
+
+    String getPositionName(int code) {
+        return positions[code].name;
+    }
+
+    // Returns -1 for a position no player has
+    int codeOf(String position) {
+        Integer code = codesBySpelling.get(position);
+        if (code == null) {
+            code = codesByKey.get(LeagueManager.foldCase(position.trim()));
+        }
+        return code == null ? -1 : code;
+    }
+
+    int codeOfPlayer(int playerId) {
+        return playerId <= loadedCount ? loadedCodes.applyAsInt(playerId) : codesByPlayer[playerId - loadedCount];
+    }
+
+    int getPlayerCount(int code) {
+        return positions[code].playerCount.get();
+    }
+
+    int getUnassignedCount(int code) {
+        return positions[code].unassignedCount.get();
+    }
+
+    // Returns the ids of the position's players, or only the ones also in unassignedPlayers, in ascending order
+    int[] getPlayerIds(int code, ConcurrentBitSet unassignedPlayers) {
+        if (!loadedPlayersListed) {
+            listLoadedPlayers();
+        }
+        Position entry = positions[code];
+        int[] playerIds = new int[unassignedPlayers != null ? entry.unassignedCount.get() : entry.playerCount.get()];
+        int count = 0;
+        for (int id = nextPlayer(entry, unassignedPlayers, 0); id >= 0; id = nextPlayer(entry, unassignedPlayers, id + 1)) {
+            if (count == playerIds.length) {
+                // Players can be released while we iterate
+                playerIds = Arrays.copyOf(playerIds, Math.max(16, count * 2));
+            }
+            playerIds[count++] = id;
+        }
+        return count == playerIds.length ? playerIds : Arrays.copyOf(playerIds, count);
+    }
+
+    private static int nextPlayer(Position entry, ConcurrentBitSet unassignedPlayers, int fromIndex) {
+        return unassignedPlayers == null ? entry.players.nextSetBit(fromIndex)
+                : entry.players.nextSetBitInBoth(unassignedPlayers, fromIndex);
+    }
+
+    private synchronized void listLoadedPlayers() {
+        if (!loadedPlayersListed) {
+            for (int playerId = 1; playerId <= loadedCount; playerId++) {
+                positions[loadedCodes.applyAsInt(playerId)].players.set(playerId);
+            }
+            loadedPlayersListed = true;
+        }
+    }
+
+    private static final class Position {
+        private final String name;
+        private final ConcurrentBitSet players;
+        private final AtomicInteger playerCount;
+        private final AtomicInteger unassignedCount;
+
+        Position(String name) {
+            this.name = name;
+            this.players = new ConcurrentBitSet();
+            this.playerCount = new AtomicInteger();
+            this.unassignedCount = new AtomicInteger();
+        }
+    }
+}
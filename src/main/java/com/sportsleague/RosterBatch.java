@@ -0,0 +1,67 @@
+package com.sportsleague;
+
+import java.util.Arrays;
+
+// Roster changes to be applied together by LeagueManager.applyBatch. Operations are validated in the
+// order they were added, as if applied one by one, but either all of them take effect or none do.
+public class RosterBatch {
+    static final byte ASSIGN = 1;
+    static final byte REMOVE = 2;
+    static final byte TRANSFER = 3;
+
+    private byte[] kinds;
+    private int[] playerIds;
+    private int[] teamIds;
+    private int size;
+
+    public RosterBatch() {
+        this.kinds = new byte[8];
+        this.playerIds = new int[8];
+        this.teamIds = new int[8];
+        this.size = 0;
+    }
+
+    // Puts an unassigned player on a team
+    public RosterBatch assign(int playerId, int teamId) {
+        return add(ASSIGN, playerId, teamId);
+    }
+
+    // Takes an assigned player off their team
+    public RosterBatch remove(int playerId) {
+        return add(REMOVE, playerId, -1);
+    }
+
+    // Moves an assigned player straight to another team, without ever leaving them unassigned
+    public RosterBatch transfer(int playerId, int teamId) {
+        return add(TRANSFER, playerId, teamId);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    byte getKind(int index) {
+        return kinds[index];
+    }
+
+    int getPlayerId(int index) {
+        return playerIds[index];
+    }
+
+    int getTeamId(int index) {
+        return teamIds[index];
+    }
+
+    private RosterBatch add(byte kind, int playerId, int teamId) {
+        if (size == kinds.length) {
+            kinds = Arrays.copyOf(kinds, size * 2);
+            playerIds = Arrays.copyOf(playerIds, size * 2);
+            teamIds = Arrays.copyOf(teamIds, size * 2);
+        }
+        kinds[size] = kind;
+        playerIds[size] = playerId;
+        teamIds[size] = teamId;
+        size++;
+        return this;
+    }
+}
@@ -0,0 +1,10 @@
+package com.sportsleague;
+
+// Notified by a Team, under its roster lock, after it has added or removed a player. On removal the player's
+// team id is only released once the listener returns, so no other team can claim the player before
+// listeners have seen the removal.
+interface RosterListener {
+    void playerAdded(Team team, Player player);
+
+    void playerRemoved(Team team, Player player);
+}
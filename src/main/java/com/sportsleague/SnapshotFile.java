@@ -0,0 +1,259 @@
+package com.sportsleague;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Full copy of a league's teams, players and rosters in a fixed binary layout that can be memory-mapped,
+// tagged with the first journal generation that is not included in it. Opening a snapshot maps the file and
+// reads only the header, the team table and the position table; players are materialized lazily by
+// MappedPlayerStore, and their positions are read from the player table by PositionIndex.
+//
+// Layout (big-endian):
+//   header      HEADER_SIZE bytes: MAGIC, VERSION, journal generation, team count, player count,
+//               team table offset, player table offset, string heap offset, string heap size,
+//               position table offset
+//   team table  TEAM_RECORD_SIZE bytes per team in id order: name ref, city ref, roster size, 15 roster ids
+//   player table PLAYER_RECORD_SIZE bytes per player in id order: first name ref, surname ref, position ref,
+//               position code
+//   string heap  [length (int)][UTF-8 bytes] entries; a ref is an entry's offset within the heap
+//   position table  position count, then per position code: name ref, player count
+// Writing goes to a temporary file that is atomically moved into place.
+public class SnapshotFile {
+    static final String FILE_NAME = "snapshot.bin";
+    static final int TEAM_RECORD_SIZE = 12 + 4 * Team.MAX_PLAYERS;
+    static final int PLAYER_RECORD_SIZE = 16;
+    static final int POSITION_CODE_OFFSET = 12;
+
+    private static final int MAGIC = 0x534C4D53; // "SLMS"
+    private static final int VERSION = 3;
+    private static final int HEADER_SIZE = 64;
+    private static final int WRITE_BUFFER_SIZE = 256 * 1024;
+
+    private SnapshotFile() {
+    }
+
+    // Writes the current in-memory state of a league to a snapshot file
+    public static void write(LeagueManager league, Path file) throws IOException {
+        write(league, league.getSnapshot(), file, 0);
+    }
+
+    // Writes the league as it stood in state, one of its own snapshots
+    static void write(Path directory, LeagueManager league, LeagueSnapshot state, long journalGeneration) throws IOException {
+        write(league, state, directory.resolve(FILE_NAME), journalGeneration);
+    }
+
+    private static void write(LeagueManager league, LeagueSnapshot state, Path file, long journalGeneration) throws IOException {
+        // Names and positions never change once registered, so only the rosters come from the snapshot
+        PlayerStore players = league.getPlayerStore();
+        PositionIndex positionIndex = league.getPositionIndex();
+        int teamCount = state.getTotalTeams();
+        int playerCount = state.getTotalPlayers();
+
+        long teamTableOffset = HEADER_SIZE;
+        long playerTableOffset = teamTableOffset + (long) teamCount * TEAM_RECORD_SIZE;
+        long stringHeapOffset = playerTableOffset + (long) playerCount * PLAYER_RECORD_SIZE;
+
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            PositionedWriter tables = new PositionedWriter(channel, teamTableOffset);
+            PositionedWriter strings = new PositionedWriter(channel, stringHeapOffset);
+            // Positions repeat a lot, so each distinct one is stored once
+            Map<String, Integer> positionRefs = new HashMap<>();
+            // Counted from the codes as they are written, so they match even if players are registered meanwhile
+            int[] playersByPosition = new int[0];
+
+            for (int teamId = 1; teamId <= teamCount; teamId++) {
+                int[] rosterIds = state.getRosterIds(teamId);
+                tables.putInt(strings.putString(state.getTeamName(teamId)));
+                tables.putInt(strings.putString(state.getTeamCity(teamId)));
+                tables.putInt(rosterIds.length);
+                for (int i = 0; i < Team.MAX_PLAYERS; i++) {
+                    tables.putInt(i < rosterIds.length ? rosterIds[i] : 0);
+                }
+            }
+
+            for (int playerId = 1; playerId <= playerCount; playerId++) {
+                tables.putInt(strings.putString(players.getFirstName(playerId)));
+                tables.putInt(strings.putString(players.getSurname(playerId)));
+                String position = players.getPosition(playerId);
+                Integer positionRef = positionRefs.get(position);
+                if (positionRef == null) {
+                    positionRef = strings.putString(position);
+                    positionRefs.put(position, positionRef);
+                }
+                tables.putInt(positionRef);
+                int positionCode = positionIndex.codeOfPlayer(playerId);
+                tables.putInt(positionCode);
+                if (positionCode >= playersByPosition.length) {
+                    playersByPosition = Arrays.copyOf(playersByPosition, positionCode + 1);
+                }
+                playersByPosition[positionCode]++;
+            }
+            tables.flush();
+            int[] positionNameRefs = new int[playersByPosition.length];
+            for (int code = 0; code < playersByPosition.length; code++) {
+                positionNameRefs[code] = strings.putString(positionIndex.getPositionName(code));
+            }
+            long positionTableOffset = strings.flush();
+            long stringHeapSize = positionTableOffset - stringHeapOffset;
+            PositionedWriter positionTable = new PositionedWriter(channel, positionTableOffset);
+            positionTable.putInt(playersByPosition.length);
+            for (int code = 0; code < playersByPosition.length; code++) {
+                positionTable.putInt(positionNameRefs[code]);
+                positionTable.putInt(playersByPosition[code]);
+            }
+            positionTable.flush();
+            if (stringHeapSize > Integer.MAX_VALUE || playerTableOffset - teamTableOffset > Integer.MAX_VALUE
+                    || stringHeapOffset - playerTableOffset > Integer.MAX_VALUE) {
+                throw new IOException("League is too large for a mapped snapshot");
+            }
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.BIG_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putLong(journalGeneration)
+                    .putInt(teamCount).putInt(playerCount)
+                    .putLong(teamTableOffset).putLong(playerTableOffset)
+                    .putLong(stringHeapOffset).putLong(stringHeapSize)
+                    .putLong(positionTableOffset)
+                    .flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            channel.force(true);
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Opens a snapshot file as a new league, in time that doesn't depend on the number of players (only on
+    // the number of teams and assigned players)
+    public static LeagueManager open(Path file) throws IOException {
+        return open(file, new long[1]);
+    }
+
+    // Also reports the journal generation the snapshot was tagged with through journalGeneration[0]
+    static LeagueManager open(Path file, long[] journalGeneration) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Not a league snapshot: " + file);
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getInt(0) != MAGIC) {
+                throw new IOException("Not a league snapshot: " + file);
+            }
+            if (header.getInt(4) != VERSION) {
+                throw new IOException("Unsupported league snapshot version " + header.getInt(4) + ": " + file);
+            }
+            journalGeneration[0] = header.getLong(8);
+            int teamCount = header.getInt(16);
+            int playerCount = header.getInt(20);
+            long teamTableOffset = header.getLong(24);
+            long playerTableOffset = header.getLong(32);
+            long stringHeapOffset = header.getLong(40);
+            long stringHeapSize = header.getLong(48);
+            long positionTableOffset = header.getLong(56);
+
+            // Mappings stay valid after the channel is closed
+            ByteBuffer teamTable = channel.map(FileChannel.MapMode.READ_ONLY, teamTableOffset, (long) teamCount * TEAM_RECORD_SIZE);
+            ByteBuffer playerTable = channel.map(FileChannel.MapMode.READ_ONLY, playerTableOffset, (long) playerCount * PLAYER_RECORD_SIZE);
+            ByteBuffer stringHeap = channel.map(FileChannel.MapMode.READ_ONLY, stringHeapOffset, stringHeapSize);
+
+            ByteBuffer positionCount = channel.map(FileChannel.MapMode.READ_ONLY, positionTableOffset, 4);
+            ByteBuffer positionTable = channel.map(FileChannel.MapMode.READ_ONLY, positionTableOffset + 4,
+                    8L * positionCount.getInt(0));
+            List<String> positionNames = new ArrayList<>();
+            int[] playersByPosition = new int[positionCount.getInt(0)];
+            for (int code = 0; code < playersByPosition.length; code++) {
+                positionNames.add(readString(stringHeap, positionTable.getInt(8 * code)));
+                playersByPosition[code] = positionTable.getInt(8 * code + 4);
+            }
+
+            MappedPlayerStore players = new MappedPlayerStore(playerTable, stringHeap, playerCount);
+            PositionIndex positionIndex = new PositionIndex(positionNames, playersByPosition,
+                    playerId -> playerTable.getInt((playerId - 1) * PLAYER_RECORD_SIZE + POSITION_CODE_OFFSET), playerCount);
+            LeagueManager league = new LeagueManager(players, positionIndex);
+            for (int i = 0; i < teamCount; i++) {
+                int record = i * TEAM_RECORD_SIZE;
+                Team team = league.registerTeam(readString(stringHeap, teamTable.getInt(record)),
+                        readString(stringHeap, teamTable.getInt(record + 4)));
+                if (team == null || team.getTeamId() != i + 1) {
+                    throw new IOException("Corrupt league snapshot at team " + (i + 1));
+                }
+                int rosterSize = teamTable.getInt(record + 8);
+                for (int j = 0; j < rosterSize; j++) {
+                    league.assignPlayerToTeam(teamTable.getInt(record + 12 + 4 * j), team.getTeamId());
+                }
+            }
+            return league;
+        }
+    }
+
+    private static String readString(ByteBuffer stringHeap, int reference) {
+        int length = stringHeap.getInt(reference);
+        byte[] bytes = new byte[length];
+        stringHeap.get(reference + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Buffered writer for one region of the file
+    private static class PositionedWriter {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private long position;
+        private long written;
+
+        PositionedWriter(FileChannel channel, long position) {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+            this.position = position;
+            this.written = 0;
+        }
+
+        void putInt(int value) throws IOException {
+            if (buffer.remaining() < 4) {
+                flush();
+            }
+            buffer.putInt(value);
+            written += 4;
+        }
+
+        // Appends a heap entry and returns its offset within the heap
+        int putString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            int reference = (int) written;
+            putInt(bytes.length);
+            int offset = 0;
+            while (offset < bytes.length) {
+                if (!buffer.hasRemaining()) {
+                    flush();
+                }
+                int chunk = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, chunk);
+                offset += chunk;
+            }
+            written += bytes.length;
+            return reference;
+        }
+
+        // Writes out the buffer and returns the file position after the last byte written
+        long flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            buffer.clear();
+            return position;
+        }
+    }
+}
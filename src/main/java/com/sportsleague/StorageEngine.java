@@ -0,0 +1,11 @@
+package com.sportsleague;
+
+// How a LeagueManager stores its players
+public enum StorageEngine {
+    // One Player object per player
+    HEAP,
+    // Primitive columns and a byte arena; Player objects are short-lived views created on access
+    COLUMNAR,
+    // Like COLUMNAR, but in native memory that is freed when the LeagueManager is closed
+    OFF_HEAP
+}
@@ -1,47 +1,71 @@
 package com.sportsleague;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class Team {
     private int teamId;
     private String teamName;
     private String city;
-    private List<Player> players;
-    private static final int MAX_PLAYERS = 15;
+    // Copy-on-write: changes replace the array under rosterLock, so readers never need the lock
+    private volatile Player[] players;
+    static final int MAX_PLAYERS = 15;
+    private static final Player[] NO_PLAYERS = new Player[0];
+    private RosterListener rosterListener;
+    // Each team guards its own roster, so assignments to different teams never contend
+    private final ReentrantLock rosterLock;
 
     public Team(int teamId, String teamName, String city) {
         this.teamId = teamId;
         this.teamName = teamName;
         this.city = city;
-        this.players = new ArrayList<>();
+        this.players = NO_PLAYERS;
+        this.rosterLock = new ReentrantLock();
     }
 
     public boolean addPlayer(Player player) {
-        if (players.size() >= MAX_PLAYERS) {
-            return false; // Team is full
-        }
-        if (player.isAssignedToTeam()) {
-            return false; // Player already assigned to a team
-        }
+        rosterLock.lock();
+        try {
+            if (players.length >= MAX_PLAYERS) {
+                return false; // Team is full
+            }
+            if (!player.claimTeam(this.teamId)) {
+                return false; // Player already assigned to a team
+            }
 
-        players.add(player);
-        player.setTeamId(this.teamId);
-        return true;
+            attachPlayer(player);
+            if (rosterListener != null) {
+                rosterListener.playerAdded(this, player);
+            }
+            return true;
+        } finally {
+            rosterLock.unlock();
+        }
     }
 
     public boolean removePlayer(int playerId) {
-
-        for (int i = 0; i < players.size(); i++) {
-            Player currentPlayer = players.get(i);
-
-            if (currentPlayer.getPlayerId() == playerId) {
-                Player removedPlayer = players.remove(i);
-                removedPlayer.setTeamId(-1);
-                return true;
+        rosterLock.lock();
+        try {
+            for (Player currentPlayer : players) {
+                if (currentPlayer.getPlayerId() == playerId) {
+                    detachPlayer(playerId);
+                    try {
+                        if (rosterListener != null) {
+                            rosterListener.playerRemoved(this, currentPlayer);
+                        }
+                    } finally {
+                        currentPlayer.setTeamId(-1);
+                    }
+                    return true;
+                }
             }
+            return false;
+        } finally {
+            rosterLock.unlock();
         }
-        return false;
     }
 
     public Player findPlayer(int playerId) {
@@ -54,7 +78,44 @@ public class Team {
     }
 
     public List<Player> getRoster() {
-        return new ArrayList<>(players);
+        return new ArrayList<>(Arrays.asList(players));
+    }
+
+    // Unmodifiable view of the roster as of this call, without copying it
+    public List<Player> getRosterView() {
+        return Collections.unmodifiableList(Arrays.asList(players));
+    }
+
+    ReentrantLock getRosterLock() {
+        return rosterLock;
+    }
+
+    // Appends a player that has already been claimed for this team, without notifying the listener.
+    // The caller must hold the roster lock and have checked that the team has room.
+    void attachPlayer(Player player) {
+        Player[] currentPlayers = players;
+        Player[] grown = Arrays.copyOf(currentPlayers, currentPlayers.length + 1);
+        grown[currentPlayers.length] = player;
+        players = grown;
+    }
+
+    // Drops a player from the roster without notifying the listener or changing their team id.
+    // The caller must hold the roster lock.
+    void detachPlayer(int playerId) {
+        Player[] currentPlayers = players;
+        for (int i = 0; i < currentPlayers.length; i++) {
+            if (currentPlayers[i].getPlayerId() == playerId) {
+                Player[] shrunk = new Player[currentPlayers.length - 1];
+                System.arraycopy(currentPlayers, 0, shrunk, 0, i);
+                System.arraycopy(currentPlayers, i + 1, shrunk, i, shrunk.length - i);
+                players = shrunk;
+                return;
+            }
+        }
+    }
+
+    void setRosterListener(RosterListener rosterListener) {
+        this.rosterListener = rosterListener;
     }
 
     // Getters
@@ -71,16 +132,16 @@ public class Team {
     }
 
     public int getPlayerCount() {
-        return players.size();
+        return players.length;
     }
 
     public boolean isFull() {
-        return players.size() >= MAX_PLAYERS;
+        return getPlayerCount() >= MAX_PLAYERS;
     }
 
     @Override
     public String toString() {
         return String.format("Team{id=%d, name='%s', city='%s', players=%d/%d}",
-                teamId, teamName, city, players.size(), MAX_PLAYERS);
+                teamId, teamName, city, getPlayerCount(), MAX_PLAYERS);
     }
-}
\ No newline at end of file
+}
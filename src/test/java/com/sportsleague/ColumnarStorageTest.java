@@ -0,0 +1,56 @@
+package com.sportsleague;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.List;
+
+public class ColumnarStorageTest {
+
+    private LeagueManager league;
+
+    @BeforeEach
+    public void setUp() {
+        league = new LeagueManager(StorageEngine.COLUMNAR);
+    }
+
+    @Test
+    public void testPlayersReadBackFromColumns() {
+        for (int i = 1; i <= 10_000; i++) {
+            league.registerPlayer("First" + i, "Ünïcödé" + i, i % 3 == 0 ? "Center" : "Guard");
+        }
+
+        Player player = league.findPlayerById(9_999);
+        assertEquals(9_999, player.getPlayerId());
+        assertEquals("First9999", player.getFirstName());
+        assertEquals("Ünïcödé9999", player.getSurname());
+        assertEquals("Center", player.getPosition());
+        assertFalse(player.isAssignedToTeam());
+        assertEquals(10_000, league.getAllPlayers().size());
+        assertEquals(1, league.searchPlayersByName("ÜNÏCÖDÉ10000").size());
+    }
+
+    @Test
+    public void testViewsShareAssignmentState() {
+        Team team = league.registerTeam("Knicks", "New York");
+        Player player = league.registerPlayer("Patrick", "Ewing", "Center");
+
+        assertTrue(league.assignPlayerToTeam(player.getPlayerId(), team.getTeamId()));
+        assertEquals(team.getTeamId(), player.getTeamId());
+        assertEquals(player, league.findPlayerById(player.getPlayerId()));
+        assertTrue(team.getRoster().contains(league.findPlayerById(player.getPlayerId())));
+
+        // A second view can't claim the player for another team
+        Team other = league.registerTeam("Nets", "Brooklyn");
+        assertFalse(other.addPlayer(league.findPlayerById(player.getPlayerId())));
+
+        assertTrue(league.removePlayerFromTeam(player.getPlayerId()));
+        assertFalse(player.isAssignedToTeam());
+        assertEquals(List.of(player), league.getUnassignedPlayers());
+    }
+
+    @Test
+    public void testRejectsOversizedNames() {
+        assertThrows(IllegalArgumentException.class, () -> league.registerPlayer("x".repeat(70_000), "Smith", "Guard"));
+    }
+}
@@ -0,0 +1,49 @@
+package com.sportsleague;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.BitSet;
+import java.util.Random;
+
+public class ConcurrentBitSetTest {
+
+    @Test
+    public void testMatchesBitSetAcrossPages() {
+        ConcurrentBitSet bits = new ConcurrentBitSet();
+        BitSet expected = new BitSet();
+        Random random = new Random(7);
+        for (int i = 0; i < 5000; i++) {
+            int index = random.nextInt(300_000);
+            if (random.nextInt(3) == 0) {
+                bits.clear(index);
+                expected.clear(index);
+            } else {
+                bits.set(index);
+                expected.set(index);
+            }
+        }
+
+        for (int from = 0; from < 300_000; from += 997) {
+            assertEquals(expected.nextSetBit(from), bits.nextSetBit(from), "from " + from);
+            assertEquals(expected.get(from), bits.get(from));
+        }
+        assertEquals(-1, bits.nextSetBit(expected.length()));
+    }
+
+    @Test
+    public void testSetRange() {
+        ConcurrentBitSet bits = new ConcurrentBitSet();
+        bits.set(3, 3);
+        assertEquals(-1, bits.nextSetBit(0));
+
+        bits.set(60, 70_000);
+        assertFalse(bits.get(59));
+        assertTrue(bits.get(60));
+        assertTrue(bits.get(64));
+        assertTrue(bits.get(65_536));
+        assertTrue(bits.get(69_999));
+        assertFalse(bits.get(70_000));
+        assertEquals(60, bits.nextSetBit(0));
+        assertEquals(-1, bits.nextSetBit(70_000));
+    }
+}
@@ -0,0 +1,151 @@
+package com.sportsleague;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class DraftEngineTest {
+
+    private static final String[] POSITIONS = {"Guard", "Forward", "Center"};
+
+    @Test
+    public void testDraftFillsEveryTeam() {
+        LeagueManager league = buildLeague(10, 200);
+        DraftResult result = new DraftEngine(league).draft(7);
+
+        assertEquals(150, result.getAssignedCount());
+        assertEquals(0, result.getSkippedCount());
+        assertEquals(50, result.getUndraftedCount());
+        assertEquals(150, league.getAssignedPlayers());
+        for (Team team : league.getAllTeams()) {
+            assertEquals(Team.MAX_PLAYERS, team.getPlayerCount());
+            for (Player player : team.getRoster()) {
+                assertEquals(team.getTeamId(), player.getTeamId());
+            }
+        }
+        assertEquals(150, league.getSnapshot().getAssignedPlayers());
+    }
+
+    @Test
+    public void testDraftOnlyFillsOpenSpots() {
+        LeagueManager league = buildLeague(4, 40);
+        for (int playerId = 1; playerId <= 10; playerId++) {
+            league.assignPlayerToTeam(playerId, 1);
+        }
+
+        DraftResult result = new DraftEngine(league).draft(1);
+        assertEquals(30, result.getAssignedCount());
+        assertEquals(0, result.getUndraftedCount());
+        assertEquals(Team.MAX_PLAYERS, league.findTeamById(1).getPlayerCount());
+        int draftedByOthers = 0;
+        for (int teamId = 2; teamId <= 4; teamId++) {
+            draftedByOthers += league.findTeamById(teamId).getPlayerCount();
+        }
+        assertEquals(25, draftedByOthers);
+        assertEquals(0, league.getUnassignedPlayerCount());
+    }
+
+    @Test
+    public void testDraftIsDeterministicForASeed() {
+        LeagueManager first = buildLeague(30, 500);
+        LeagueManager second = buildLeague(30, 500);
+        LeagueManager third = buildLeague(30, 500);
+        new DraftEngine(first).draft(42);
+        new DraftEngine(second).draft(42);
+        new DraftEngine(third).draft(43);
+
+        assertEquals(rosters(first), rosters(second));
+        assertNotEquals(rosters(first), rosters(third));
+    }
+
+    @Test
+    public void testDraftBalancesPositions() {
+        // Each position makes up a third of the pool, so every team should get five of each
+        LeagueManager league = buildLeague(20, 300);
+        new DraftEngine(league).draft(3);
+
+        for (Team team : league.getAllTeams()) {
+            Map<String, Integer> positionCounts = new HashMap<>();
+            for (Player player : team.getRoster()) {
+                positionCounts.merge(player.getPosition(), 1, Integer::sum);
+            }
+            for (String position : POSITIONS) {
+                assertEquals(5, positionCounts.getOrDefault(position, 0), team + " " + positionCounts);
+            }
+        }
+    }
+
+    @Test
+    public void testDraftGroupsPositionsIgnoringCase() {
+        LeagueManager league = new LeagueManager();
+        league.registerTeam("Hawks", "Atlanta");
+        league.registerTeam("Bulls", "Chicago");
+        league.registerPlayer("A", "One", "Center");
+        league.registerPlayer("B", "Two", " center ");
+        league.registerPlayer("C", "Three", "Guard");
+        league.registerPlayer("D", "Four", "GUARD");
+        new DraftEngine(league).draft(5);
+
+        for (Team team : league.getAllTeams()) {
+            List<String> positions = new ArrayList<>();
+            for (Player player : team.getRoster()) {
+                positions.add(LeagueManager.foldCase(player.getPosition().trim()));
+            }
+            assertEquals(2, positions.size());
+            assertTrue(positions.contains("center") && positions.contains("guard"), positions.toString());
+        }
+    }
+
+    @Test
+    public void testDraftWithoutTeamsOrPlayers() {
+        LeagueManager league = buildLeague(0, 20);
+        DraftResult result = new DraftEngine(league).draft(1);
+        assertEquals(0, result.getAssignedCount());
+        assertEquals(20, result.getUndraftedCount());
+
+        league = buildLeague(3, 0);
+        result = new DraftEngine(league).draft(1);
+        assertEquals(0, result.getAssignedCount());
+        assertEquals(0, result.getUndraftedCount());
+    }
+
+    @Test
+    public void testLargeDraftSpreadsAcrossWorkers() {
+        LeagueManager league = buildLeague(5000, 100000);
+        DraftResult result = new DraftEngine(league).draft(2024);
+
+        assertEquals(75000, result.getAssignedCount());
+        assertEquals(25000, result.getUndraftedCount());
+        assertEquals(75000, league.getAssignedPlayers());
+        assertEquals(75000, league.getSnapshot().getAssignedPlayers());
+        for (Team team : league.getTeamsView()) {
+            assertEquals(Team.MAX_PLAYERS, team.getPlayerCount());
+        }
+    }
+
+    private static LeagueManager buildLeague(int teamCount, int playerCount) {
+        LeagueManager league = new LeagueManager();
+        for (int i = 0; i < teamCount; i++) {
+            league.registerTeam("Team " + i, "City " + i);
+        }
+        for (int i = 0; i < playerCount; i++) {
+            league.registerPlayer("First" + i, "Last" + i, POSITIONS[i % POSITIONS.length]);
+        }
+        return league;
+    }
+
+    private static List<List<Integer>> rosters(LeagueManager league) {
+        List<List<Integer>> rosters = new ArrayList<>();
+        for (Team team : league.getAllTeams()) {
+            List<Integer> playerIds = new ArrayList<>();
+            for (Player player : team.getRoster()) {
+                playerIds.add(player.getPlayerId());
+            }
+            rosters.add(playerIds);
+        }
+        return rosters;
+    }
+}
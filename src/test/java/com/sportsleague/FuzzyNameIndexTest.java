@@ -0,0 +1,87 @@
+package com.sportsleague;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+
+public class FuzzyNameIndexTest {
+
+    private LeagueManager league;
+
+    @BeforeEach
+    public void setUp() {
+        league = new LeagueManager();
+        league.registerPlayer("Michael", "Jordan", "Guard");       // 1
+        league.registerPlayer("DeAndre", "Jordan", "Center");      // 2
+        league.registerPlayer("Magic", "Johnson", "Guard");        // 3
+        league.registerPlayer("Michael", "Cooper", "Guard");       // 4
+        league.registerPlayer("Jordan", "Clarkson", "Guard");      // 5
+        league.registerPlayer("Eddie", "Johnston", "Forward");     // 6
+    }
+
+    @Test
+    public void testTyposFindTheIntendedPlayer() {
+        assertEquals(List.of(1, 2, 5), playerIds(league.searchPlayersFuzzy("Jordon", 10)));
+        assertEquals(List.of(1), playerIds(league.searchPlayersFuzzy("Micheal Jordon", 10)));
+        assertEquals(List.of(3), playerIds(league.searchPlayersFuzzy("magik", 10)));
+        assertTrue(league.searchPlayersFuzzy("Bird", 10).isEmpty());
+    }
+
+    @Test
+    public void testCloserMatchesRankFirst() {
+        league.registerPlayer("Jordi", "Fernandez", "Guard");      // 7
+
+        // Exact names first, then names one edit away, then two; ties go to the lower id
+        assertEquals(List.of(1, 2, 5, 7), playerIds(league.searchPlayersFuzzy("jordan", 10)));
+        assertEquals(List.of(1, 2, 5, 7), playerIds(league.searchPlayersFuzzy("Jordon", 10)));
+        assertEquals(List.of(4), playerIds(league.searchPlayersFuzzy("Michael Cooper", 10)));
+        assertEquals(List.of(5), playerIds(league.searchPlayersFuzzy("Jordan Clarksen", 10)));
+    }
+
+    @Test
+    public void testLimitKeepsTheBestMatches() {
+        assertEquals(List.of(1, 2), playerIds(league.searchPlayersFuzzy("Jordan", 2)));
+        assertTrue(league.searchPlayersFuzzy("Jordan", 0).isEmpty());
+        assertTrue(league.searchPlayersFuzzy("   ", 5).isEmpty());
+    }
+
+    @Test
+    public void testPhoneticMatchesReachBeyondTheEditLimit() {
+        // "Jansn" is three edits from "Johnson" but sounds the same
+        assertTrue(league.searchPlayersFuzzy("Jansn", 10).isEmpty());
+        assertEquals(List.of(3), playerIds(league.searchPlayersFuzzy("Jansn", 10, true)));
+        // Within the edit limit a name scores its distance, even if it also sounds the same
+        assertEquals(List.of(6, 3), playerIds(league.searchPlayersFuzzy("Jonston", 10, true)));
+        assertEquals("J525", FuzzyNameIndex.soundex("Johnson"));
+        assertEquals("J523", FuzzyNameIndex.soundex("Johnston"));
+        assertEquals("A261", FuzzyNameIndex.soundex("Ashcraft"));
+        assertEquals("T522", FuzzyNameIndex.soundex("Tymczak"));
+        assertNull(FuzzyNameIndex.soundex("-"));
+    }
+
+    @Test
+    public void testPlayersRegisteredAfterTheFirstSearchAreFound() {
+        assertTrue(league.searchPlayersFuzzy("Pippen", 10).isEmpty());
+        league.registerPlayer("Scottie", "Pippen", "Forward");     // 7
+        assertEquals(List.of(7), playerIds(league.searchPlayersFuzzy("Pipen", 10)));
+    }
+
+    @Test
+    public void testPlayersMatchingWithBothNamesAreListedOnce() {
+        league.registerPlayer("Jordan", "Jordan", "Guard");        // 7
+        league.registerPlayer("Jordan", "Jordon", "Guard");        // 8
+
+        assertEquals(List.of(1, 2, 5, 7, 8), playerIds(league.searchPlayersFuzzy("Jordan", 10)));
+        assertEquals(List.of(8, 1, 2, 5, 7), playerIds(league.searchPlayersFuzzy("Jordan Jordon", 10)));
+    }
+
+    private static List<Integer> playerIds(List<Player> players) {
+        List<Integer> ids = new ArrayList<>();
+        for (Player player : players) {
+            ids.add(player.getPlayerId());
+        }
+        return ids;
+    }
+}
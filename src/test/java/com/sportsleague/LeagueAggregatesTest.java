@@ -0,0 +1,110 @@
+package com.sportsleague;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Map;
+
+public class LeagueAggregatesTest {
+
+    private LeagueManager league;
+    private Team knicks;
+    private Team nets;
+    private Team lakers;
+
+    @BeforeEach
+    public void setUp() {
+        league = new LeagueManager();
+        knicks = league.registerTeam("Knicks", "New York");
+        nets = league.registerTeam("Nets", "new york ");
+        lakers = league.registerTeam("Lakers", "Los Angeles");
+        for (int i = 0; i < 40; i++) {
+            league.registerPlayer("First" + i, "Last" + i, i % 2 == 0 ? "Guard" : "Center");
+        }
+    }
+
+    @Test
+    public void testEmptyLeagueStatistics() {
+        LeagueStatistics statistics = new LeagueManager().getStatistics();
+        assertEquals(0, statistics.getTotalTeams());
+        assertEquals(0, statistics.getFullTeams());
+        assertEquals(0.0, statistics.getRosterFill());
+        assertTrue(statistics.getPlayersByCity().isEmpty());
+        assertTrue(statistics.getPlayersByPosition().isEmpty());
+    }
+
+    @Test
+    public void testStatisticsFollowRosterChanges() {
+        for (int playerId = 1; playerId <= Team.MAX_PLAYERS; playerId++) {
+            league.assignPlayerToTeam(playerId, knicks.getTeamId());
+        }
+        league.assignPlayerToTeam(16, nets.getTeamId());
+        league.assignPlayerToTeam(17, lakers.getTeamId());
+        league.assignPlayerToTeam(18, lakers.getTeamId());
+
+        LeagueStatistics statistics = league.getStatistics();
+        assertEquals(3, statistics.getTotalTeams());
+        assertEquals(40, statistics.getTotalPlayers());
+        assertEquals(18, statistics.getAssignedPlayers());
+        assertEquals(22, statistics.getUnassignedPlayers());
+        assertEquals(1, statistics.getFullTeams());
+        assertEquals(1, statistics.getTeamsWithRosterSize(1));
+        assertEquals(1, statistics.getTeamsWithRosterSize(2));
+        assertEquals(0, statistics.getTeamsWithRosterSize(0));
+        assertEquals(18.0 / 45, statistics.getRosterFill(), 1e-9);
+        assertEquals(Map.of("New York", 2, "Los Angeles", 1), statistics.getTeamsByCity());
+        assertEquals(Map.of("New York", 16, "Los Angeles", 2), statistics.getPlayersByCity());
+        assertEquals(Map.of("Guard", 20, "Center", 20), statistics.getPlayersByPosition());
+        assertEquals(Map.of("Guard", 11, "Center", 11), statistics.getUnassignedPlayersByPosition());
+
+        league.removePlayerFromTeam(1);
+        league.transferPlayer(17, nets.getTeamId());
+        statistics = league.getStatistics();
+        assertEquals(0, statistics.getFullTeams());
+        assertEquals(1, statistics.getTeamsWithRosterSize(14));
+        assertEquals(1, statistics.getTeamsWithRosterSize(2));
+        assertEquals(1, statistics.getTeamsWithRosterSize(1));
+        assertEquals(Map.of("New York", 16, "Los Angeles", 1), statistics.getPlayersByCity());
+    }
+
+    @Test
+    public void testTeamWithoutCityIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> league.registerTeam("Nomads", null));
+
+        assertNull(league.findTeamByName("Nomads"));
+        LeagueStatistics statistics = league.getStatistics();
+        assertEquals(3, statistics.getTotalTeams());
+        assertEquals(Map.of("New York", 2, "Los Angeles", 1), statistics.getTeamsByCity());
+        assertEquals(4, league.registerTeam("Nomads", "Anywhere").getTeamId());
+    }
+
+    @Test
+    public void testTeamPositionMixIsMaintained() {
+        league.assignPlayerToTeam(1, lakers.getTeamId());
+        league.assignPlayerToTeam(2, lakers.getTeamId());
+        league.assignPlayerToTeam(3, lakers.getTeamId());
+        assertEquals(Map.of("Guard", 2, "Center", 1), league.countPlayersByPosition(lakers.getTeamId()));
+        assertEquals(Map.of("Guard", 0, "Center", 0), league.countPlayersByPosition(knicks.getTeamId()));
+
+        assertTrue(league.applyBatch(new RosterBatch().transfer(1, knicks.getTeamId()).remove(2)));
+        assertEquals(Map.of("Guard", 1, "Center", 0), league.countPlayersByPosition(lakers.getTeamId()));
+        assertEquals(Map.of("Guard", 1, "Center", 0), league.countPlayersByPosition(knicks.getTeamId()));
+
+        // A position first registered after the team's last change still shows up
+        league.registerPlayer("Late", "Comer", "Forward");
+        assertEquals(0, league.countPlayersByPosition(lakers.getTeamId()).get("Forward"));
+    }
+
+    @Test
+    public void testDraftKeepsAggregatesConsistent() {
+        for (int i = 0; i < 10; i++) {
+            league.registerPlayer("Extra" + i, "Player" + i, "Forward");
+        }
+        new DraftEngine(league).draft(9);
+        LeagueStatistics statistics = league.getStatistics();
+        assertEquals(3 * Team.MAX_PLAYERS, statistics.getAssignedPlayers());
+        assertEquals(3, statistics.getFullTeams());
+        assertEquals(1.0, statistics.getRosterFill(), 1e-9);
+        assertEquals(Map.of("New York", 30, "Los Angeles", 15), statistics.getPlayersByCity());
+    }
+}
@@ -0,0 +1,114 @@
+package com.sportsleague;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+public class LeagueCommandInterpreterTest {
+
+    private LeagueManager league;
+    private LeagueCommandInterpreter interpreter;
+
+    @BeforeEach
+    public void setUp() {
+        league = new LeagueManager();
+        interpreter = new LeagueCommandInterpreter(league);
+    }
+
+    private String run(String script) throws IOException {
+        StringWriter output = new StringWriter();
+        interpreter.run(new StringReader(script), output);
+        return output.toString();
+    }
+
+    @Test
+    public void testScriptRunsCommandsWithoutPrompts() throws IOException {
+        String output = run("# set up a team\n"
+                + "team \"New York Knicks\" \"New York\"\n"
+                + "player Patrick Ewing Center\n"
+                + "\n"
+                + "assign 1 1\n"
+                + "stats\n");
+
+        assertEquals("OK team 1\nOK player 1\nOK\nOK teams=1 players=1 assigned=1 unassigned=0 full=0\n", output);
+        assertEquals("New York Knicks", league.findTeamById(1).getTeamName());
+        assertEquals(1, league.findPlayerById(1).getTeamId());
+        assertEquals(4, interpreter.getCommandCount());
+        assertEquals(0, interpreter.getErrorCount());
+    }
+
+    @Test
+    public void testFailedCommandsReportErrorsAndContinue() throws IOException {
+        String output = run("assign 1 1\nfrobnicate\nremove x\nteam Lakers\nplayer Magic Johnson \"Point Guard\n"
+                + "team Lakers \"Los Angeles\"\n");
+
+        String[] lines = output.split("\n");
+        assertEquals(6, lines.length);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(lines[i].startsWith("ERROR "), lines[i]);
+        }
+        assertEquals("OK team 1", lines[5]);
+        assertEquals(5, interpreter.getErrorCount());
+        assertEquals(6, interpreter.getCommandCount());
+    }
+
+    @Test
+    public void testQuitStopsTheScript() throws IOException {
+        String output = run("team Lakers LA\nquit\nteam Celtics Boston\n");
+
+        assertEquals("OK team 1\n", output);
+        assertEquals(1, league.getTotalTeams());
+    }
+
+    @Test
+    public void testListingsWriteACountThenOneLinePerEntry() throws IOException {
+        run("team Lakers LA\nplayer Magic Johnson Guard\nplayer Kareem Abdul-Jabbar Center\nassign 2 1\n");
+
+        assertEquals("OK 1\n" + league.findPlayerById(1) + "\n", run("unassigned\n"));
+        assertEquals("OK 1\n" + league.findPlayerById(2) + "\n", run("roster 1\n"));
+        assertEquals("OK 1\n" + league.findPlayerById(2) + "\n", run("search kareem\n"));
+        assertEquals("OK 1\n" + league.findPlayerById(2) + "\n", run("fuzzy \"Kareem Abdul-Jabar\"\n"));
+        assertEquals("OK 1\n" + league.findPlayerById(2) + "\n", run("complete players abdul\n"));
+        assertEquals("OK 1\n" + league.findTeamById(1) + "\n", run("complete teams la\n"));
+        assertEquals("OK 1\n" + league.findTeamById(1) + "\n", run("teams\n"));
+        assertEquals("OK 2\nGuard players=1 unassigned=1\nCenter players=1 unassigned=0\n", run("positions\n"));
+        assertEquals(3, run("players\n").split("\n").length);
+
+        String help = run("help\n");
+        assertEquals(help.split("\n").length - 1, Integer.parseInt(help.substring(3, help.indexOf('\n'))));
+    }
+
+    @Test
+    public void testEmptyListingsStillReply() throws IOException {
+        assertEquals("OK 0\nOK 0\nOK 0\nOK 0\n", run("teams\nplayers\nsearch nobody\nposition Guard unassigned\n"));
+    }
+
+    @Test
+    public void testOverlongLineEndsTheRun() throws IOException {
+        String longLine = "search " + "x".repeat(BoundedLineReader.MAX_LINE_LENGTH);
+        String output = run("team Lakers LA\r\nteam Celtics Boston\r" + longLine + "\nteam Heat Miami\n");
+
+        assertEquals("OK team 1\nOK team 2\nERROR line is longer than " + BoundedLineReader.MAX_LINE_LENGTH
+                + " characters\n", output);
+        assertEquals(2, league.getTotalTeams());
+        assertEquals(1, interpreter.getErrorCount());
+    }
+
+    @Test
+    public void testTokenizerHandlesQuotesAndEscapes() {
+        List<String> tokens = new ArrayList<>();
+
+        assertTrue(LeagueCommandInterpreter.tokenize("  player  \"Shaquille \\\"Shaq\\\"\" O'Neal   Center ", tokens));
+        assertEquals(List.of("player", "Shaquille \"Shaq\"", "O'Neal", "Center"), tokens);
+
+        assertTrue(LeagueCommandInterpreter.tokenize("team Trail\" \"Blazers \"\"", tokens));
+        assertEquals(List.of("team", "Trail Blazers", ""), tokens);
+
+        assertFalse(LeagueCommandInterpreter.tokenize("team \"Open", tokens));
+    }
+}
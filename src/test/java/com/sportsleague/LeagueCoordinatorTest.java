@@ -0,0 +1,102 @@
+package com.sportsleague;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class LeagueCoordinatorTest {
+
+    private LeagueCoordinator coordinator;
+
+    @BeforeEach
+    public void setUp() {
+        coordinator = new LeagueCoordinator(List.of("East", "West", "Central"));
+    }
+
+    @Test
+    public void testIdsAreGloballyUnique() {
+        Set<Integer> playerIds = new HashSet<>();
+        Set<Integer> teamIds = new HashSet<>();
+        for (int i = 0; i < 30; i++) {
+            String division = coordinator.getDivisions().get(i % 3);
+            teamIds.add(coordinator.registerTeam(division, "Team " + i, "City"));
+            playerIds.add(coordinator.registerPlayer(division, "First" + i, "Last" + i, "Guard"));
+        }
+        assertEquals(30, playerIds.size());
+        assertEquals(30, teamIds.size());
+        assertFalse(playerIds.contains(-1));
+
+        for (int playerId : playerIds) {
+            Player player = coordinator.findPlayerById(playerId);
+            assertEquals(playerId, player.getPlayerId());
+            assertEquals(coordinator.getDivisionOf(playerId),
+                    coordinator.getDivisions().get(Integer.parseInt(player.getFirstName().substring(5)) % 3));
+        }
+    }
+
+    @Test
+    public void testAssignmentsStayWithinADivision() {
+        int eastTeam = coordinator.registerTeam("East", "Knicks", "New York");
+        int westTeam = coordinator.registerTeam("west", "Lakers", "Los Angeles");
+        int eastPlayer = coordinator.registerPlayer("EAST", "Patrick", "Ewing", "Center");
+
+        assertEquals(-1, coordinator.registerTeam("North", "Nowhere", "Nowhere"));
+        assertEquals(-1, coordinator.registerTeam("East", "knicks", "New York"));
+        assertFalse(coordinator.assignPlayerToTeam(eastPlayer, westTeam));
+        assertTrue(coordinator.assignPlayerToTeam(eastPlayer, eastTeam));
+
+        Player player = coordinator.findPlayerById(eastPlayer);
+        assertEquals(eastTeam, player.getTeamId());
+        assertEquals("East", coordinator.getDivisionOf(eastTeam));
+        assertEquals(1, coordinator.getDivision("East").getAssignedPlayers());
+        assertEquals(0, coordinator.getDivision("West").getAssignedPlayers());
+
+        assertTrue(coordinator.removePlayerFromTeam(eastPlayer));
+        assertFalse(coordinator.findPlayerById(eastPlayer).isAssignedToTeam());
+        assertNull(coordinator.findPlayerById(0));
+        assertNull(coordinator.findPlayerById(999));
+    }
+
+    @Test
+    public void testQueriesMergeAllDivisions() {
+        List<Integer> smiths = new ArrayList<>();
+        for (String division : coordinator.getDivisions()) {
+            int teamId = coordinator.registerTeam(division, division + " Team", "City");
+            for (int i = 0; i < 5; i++) {
+                int playerId = coordinator.registerPlayer(division, "Player" + i, division + "son", "Forward");
+                if (i < 2) {
+                    coordinator.assignPlayerToTeam(playerId, teamId);
+                }
+            }
+            smiths.add(coordinator.registerPlayer(division, "John", "Smith", "Guard"));
+        }
+
+        assertEquals(3, coordinator.getTotalTeams());
+        assertEquals(18, coordinator.getTotalPlayers());
+        assertEquals(6, coordinator.getAssignedPlayers());
+        assertEquals(12, coordinator.getUnassignedPlayerCount());
+
+        List<Player> unassigned = coordinator.getUnassignedPlayers();
+        assertEquals(12, unassigned.size());
+        for (int i = 1; i < unassigned.size(); i++) {
+            assertTrue(unassigned.get(i - 1).getPlayerId() < unassigned.get(i).getPlayerId());
+        }
+
+        List<Integer> found = new ArrayList<>();
+        for (Player player : coordinator.searchPlayersByName("smith")) {
+            found.add(player.getPlayerId());
+        }
+        smiths.sort(null);
+        assertEquals(smiths, found);
+    }
+
+    @Test
+    public void testDivisionsMustBeDistinct() {
+        assertThrows(IllegalArgumentException.class, () -> new LeagueCoordinator(List.of("East", " east")));
+        assertThrows(IllegalArgumentException.class, () -> new LeagueCoordinator(List.of()));
+    }
+}
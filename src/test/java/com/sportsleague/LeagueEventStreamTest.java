@@ -0,0 +1,134 @@
+package com.sportsleague;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class LeagueEventStreamTest {
+
+    @Test
+    public void testSubscriberSeesMutationsInOrder() {
+        LeagueManager league = new LeagueManager();
+        league.registerPlayer("Early", "Bird", "Guard");
+        LeagueEventSubscription subscription = league.subscribe();
+
+        Team team = league.registerTeam("Hawks", "Atlanta");
+        Player player = league.registerPlayer("Trae", "Young", "Guard");
+        league.assignPlayerToTeam(player.getPlayerId(), team.getTeamId());
+        league.removePlayerFromTeam(player.getPlayerId());
+        league.assignPlayerToTeam(1, 99); // Fails, so no event
+
+        List<String> events = new ArrayList<>();
+        assertEquals(4, subscription.poll((sequence, type, playerId, teamId) ->
+                events.add(sequence + " " + type + " " + playerId + " " + teamId), 100));
+        assertEquals(List.of("0 TEAM_REGISTERED -1 1", "1 PLAYER_REGISTERED 2 -1", "2 PLAYER_ASSIGNED 2 1",
+                "3 PLAYER_REMOVED 2 1"), events);
+        assertEquals(0, subscription.poll((sequence, type, playerId, teamId) -> fail(), 100));
+        assertEquals(0, subscription.getLag());
+    }
+
+    @Test
+    public void testPollDeliversInBatches() {
+        LeagueManager league = new LeagueManager();
+        LeagueEventSubscription first = league.subscribe();
+        for (int i = 0; i < 10; i++) {
+            league.registerPlayer("First" + i, "Last" + i, "Center");
+        }
+        LeagueEventSubscription second = league.subscribe();
+
+        List<Integer> playerIds = new ArrayList<>();
+        LeagueEventHandler handler = (sequence, type, playerId, teamId) -> playerIds.add(playerId);
+        assertEquals(4, first.poll(handler, 4));
+        assertEquals(4, first.poll(handler, 4));
+        assertEquals(2, first.poll(handler, 4));
+        assertEquals(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), playerIds);
+        assertEquals(0, second.poll(handler, 4));
+        assertEquals(10, second.getNextSequence());
+    }
+
+    @Test
+    public void testBatchesAndTransfersArePublished() {
+        LeagueManager league = new LeagueManager();
+        league.registerTeam("Hawks", "Atlanta");
+        league.registerTeam("Bulls", "Chicago");
+        league.registerPlayer("Trae", "Young", "Guard");
+        league.assignPlayerToTeam(1, 1);
+        LeagueEventSubscription subscription = league.subscribe();
+
+        league.transferPlayer(1, 2);
+        List<String> events = new ArrayList<>();
+        subscription.poll((sequence, type, playerId, teamId) -> events.add(type + " " + teamId), 100);
+        assertEquals(List.of("PLAYER_REMOVED 1", "PLAYER_ASSIGNED 2"), events);
+    }
+
+    @Test
+    public void testSlowSubscriberSkipsOverwrittenEvents() {
+        LeagueEventRing ring = new LeagueEventRing(8);
+        LeagueEventSubscription subscription = new LeagueEventSubscription(ring);
+        for (int i = 1; i <= 20; i++) {
+            ring.publish(LeagueEventType.PLAYER_REGISTERED, i, -1);
+        }
+
+        List<Long> sequences = new ArrayList<>();
+        int delivered = subscription.poll((sequence, type, playerId, teamId) -> {
+            assertEquals(sequence + 1, playerId);
+            sequences.add(sequence);
+        }, 100);
+
+        // Writers were never held back; the reader resumed half a ring behind them
+        assertEquals(16, subscription.getMissedEvents());
+        assertEquals(List.of(16L, 17L, 18L, 19L), sequences);
+        assertEquals(4, delivered);
+        assertEquals(20, subscription.getNextSequence());
+    }
+
+    @Test
+    public void testConcurrentWritersAndReaderKeepEventsIntact() throws Exception {
+        LeagueEventRing ring = new LeagueEventRing(1024);
+        LeagueEventSubscription subscription = new LeagueEventSubscription(ring);
+        int writers = 4;
+        int eventsPerWriter = 200_000;
+        List<Thread> threads = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            int writer = w;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < eventsPerWriter; i++) {
+                    // Each event carries a checkable pair, so a torn read would show up as a mismatch
+                    ring.publish(LeagueEventType.PLAYER_ASSIGNED, i, writer * eventsPerWriter + i);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+
+        AtomicBoolean intact = new AtomicBoolean(true);
+        long[] delivered = new long[1];
+        LeagueEventHandler handler = (sequence, type, playerId, teamId) -> {
+            if (teamId % eventsPerWriter != playerId || type != LeagueEventType.PLAYER_ASSIGNED) {
+                intact.set(false);
+            }
+            delivered[0]++;
+        };
+        while (threads.stream().anyMatch(Thread::isAlive)) {
+            subscription.poll(handler, 256);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        while (subscription.poll(handler, 256) > 0) {
+            // Drain what is left
+        }
+
+        assertTrue(intact.get());
+        assertEquals((long) writers * eventsPerWriter, delivered[0] + subscription.getMissedEvents());
+        assertEquals(0, subscription.getLag());
+    }
+
+    @Test
+    public void testCapacityMustBeAPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new LeagueEventRing(1000));
+    }
+}
@@ -0,0 +1,126 @@
+package com.sportsleague;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class LeagueImporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private LeagueManager league;
+    private LeagueImporter importer;
+
+    @BeforeEach
+    public void setUp() {
+        league = new LeagueManager();
+        importer = new LeagueImporter(league);
+    }
+
+    @Test
+    public void testImportTeams() throws IOException {
+        Path file = tempDir.resolve("teams.csv");
+        Files.writeString(file, "Team Name,City\r\n"
+                + "Hornets,Charlotte\r\n"
+                + "\"Trail Blazers\",\"Portland, OR\"\r\n"
+                + "\n"
+                + "hornets,Charlotte\n"
+                + "Bad$Name,Nowhere\n"
+                + "Heat\n"
+                + "Nuggets,");
+
+        ImportResult result = importer.importTeams(file);
+
+        assertEquals(2, result.getImportedCount());
+        assertEquals(4, result.getRejectedCount());
+        assertEquals("Portland, OR", league.findTeamByName("Trail Blazers").getCity());
+        assertTrue(result.getRejectedRows().get(0).startsWith("line 5:"));
+        assertTrue(result.getRejectedRows().get(2).startsWith("line 7:"));
+    }
+
+    @Test
+    public void testImportPlayersWithTeams() throws IOException {
+        league.registerTeam("Bulls", "Chicago");
+        Path file = tempDir.resolve("players.csv");
+        Files.writeString(file, "firstName,surname,position,team\n"
+                + "Michael,Jordan,Shooting Guard,Bulls\n"
+                + "\"Shaquille\",\"O'Neal\",Center\n"
+                + "Larry,Bird,Small Forward,Celtics\n"
+                + "Dennis,,Power Forward\n");
+
+        ImportResult result = importer.importPlayers(file);
+
+        assertEquals(2, result.getImportedCount());
+        assertEquals(2, result.getRejectedCount());
+        assertEquals(2, league.getTotalPlayers());
+        assertEquals(1, league.getAssignedPlayers());
+        assertEquals(1, league.findPlayerById(1).getTeamId());
+        assertEquals("O'Neal", league.findPlayerById(2).getSurname());
+    }
+
+    @Test
+    public void testRejectsLineBreaksInNames() throws IOException {
+        Path teams = tempDir.resolve("teams.csv");
+        Files.writeString(teams, "\"Chicago\nBulls\",Chicago\nHeat,\"Mi\r\nami\"\nKnicks,New York\n");
+        Path players = tempDir.resolve("players.csv");
+        Files.writeString(players, "\"Michael\nJordan\",Jordan,Guard\nScottie,Pippen,\"Small\rForward\"\n"
+                + "Dennis,Rodman,Forward\n");
+
+        ImportResult teamResult = importer.importTeams(teams);
+        ImportResult playerResult = importer.importPlayers(players);
+
+        assertEquals(1, teamResult.getImportedCount());
+        assertEquals(2, teamResult.getRejectedCount());
+        assertEquals(1, playerResult.getImportedCount());
+        assertEquals(2, playerResult.getRejectedCount());
+        assertEquals("line 3: fields cannot contain line breaks", playerResult.getRejectedRows().get(1));
+        assertEquals("Knicks", league.findTeamById(1).getTeamName());
+        assertEquals("Rodman", league.findPlayerById(1).getSurname());
+
+        LeagueCommandInterpreter interpreter = new LeagueCommandInterpreter(league);
+        StringBuilder output = new StringBuilder();
+        interpreter.execute("players", output);
+        assertEquals("OK 1\n" + league.findPlayerById(1) + "\n", output.toString());
+    }
+
+    @Test
+    public void testRowForFullTeamRegistersNobody() throws IOException {
+        league.registerTeam("Bulls", "Chicago");
+        StringBuilder rows = new StringBuilder();
+        for (int i = 0; i <= Team.MAX_PLAYERS; i++) {
+            rows.append("First").append(i).append(",Last").append(i).append(",Guard,Bulls\n");
+        }
+        Path file = tempDir.resolve("players.csv");
+        Files.writeString(file, rows.toString());
+
+        ImportResult result = importer.importPlayers(file);
+
+        assertEquals(Team.MAX_PLAYERS, result.getImportedCount());
+        assertEquals(1, result.getRejectedCount());
+        assertEquals(Team.MAX_PLAYERS, league.getTotalPlayers());
+        assertEquals(Team.MAX_PLAYERS, league.getAssignedPlayers());
+    }
+
+    @Test
+    public void testImportSpansManyBuffersAndBatches() throws IOException {
+        Path file = tempDir.resolve("many.csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            for (int i = 0; i < 25_000; i++) {
+                writer.write("Player" + i + ",Surname,\"Guard, Point\"\n");
+            }
+        }
+
+        ImportResult result = importer.importPlayers(file);
+
+        assertEquals(25_000, result.getImportedCount());
+        assertEquals(0, result.getRejectedCount());
+        assertEquals("Player24999", league.findPlayerById(25_000).getFirstName());
+        assertEquals("Guard, Point", league.findPlayerById(12_345).getPosition());
+    }
+}
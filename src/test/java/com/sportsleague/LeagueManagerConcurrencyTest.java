@@ -0,0 +1,249 @@
+package com.sportsleague;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LeagueManagerConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int TEAMS = 20;
+    private static final int PLAYERS = 1000;
+
+    private LeagueManager league;
+
+    @BeforeEach
+    public void setUp() {
+        league = new LeagueManager();
+        for (int i = 0; i < TEAMS; i++) {
+            league.registerTeam("Team " + i, "City " + i);
+        }
+        for (int i = 0; i < PLAYERS; i++) {
+            league.registerPlayer("First" + i, "Last" + i, "Guard");
+        }
+    }
+
+    @Test
+    public void testConcurrentAssignmentsRespectCapacity() throws Exception {
+        // Every thread races to put every player on some team
+        runConcurrently(threadIndex -> {
+            Random random = new Random(threadIndex);
+            for (int playerId = 1; playerId <= PLAYERS; playerId++) {
+                league.assignPlayerToTeam(playerId, 1 + random.nextInt(TEAMS));
+            }
+        });
+
+        assertEquals(TEAMS * 15, league.getAssignedPlayers());
+        assertConsistentRosters();
+    }
+
+    @Test
+    public void testConcurrentAssignAndRemoveKeepsPlayersOnOneRoster() throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger capacityViolations = new AtomicInteger();
+        Thread watcher = new Thread(() -> {
+            while (running.get()) {
+                for (Team team : league.getAllTeams()) {
+                    if (team.getPlayerCount() > 15) {
+                        capacityViolations.incrementAndGet();
+                    }
+                }
+            }
+        });
+        watcher.start();
+
+        runConcurrently(threadIndex -> {
+            Random random = new Random(threadIndex);
+            for (int i = 0; i < 20_000; i++) {
+                int playerId = 1 + random.nextInt(PLAYERS);
+                if (random.nextBoolean()) {
+                    league.assignPlayerToTeam(playerId, 1 + random.nextInt(TEAMS));
+                } else {
+                    league.removePlayerFromTeam(playerId);
+                }
+            }
+        });
+
+        running.set(false);
+        watcher.join();
+        assertEquals(0, capacityViolations.get());
+        assertConsistentRosters();
+    }
+
+    @Test
+    public void testConcurrentRegistration() throws Exception {
+        runConcurrently(threadIndex -> {
+            for (int i = 0; i < 500; i++) {
+                league.registerPlayer("Thread" + threadIndex, "Player" + i, "Center");
+                league.registerTeam("Squad " + threadIndex + "-" + i, "Town");
+            }
+        });
+
+        assertEquals(PLAYERS + THREADS * 500, league.getTotalPlayers());
+        assertEquals(TEAMS + THREADS * 500, league.getTotalTeams());
+        for (int playerId = 1; playerId <= league.getTotalPlayers(); playerId++) {
+            assertEquals(playerId, league.findPlayerById(playerId).getPlayerId());
+        }
+        assertEquals(THREADS * 500, league.searchPlayersByName("thread").size());
+        assertEquals(league.getTotalPlayers(), league.getUnassignedPlayers().size());
+    }
+
+    @Test
+    public void testConcurrentTransfersNeverDropPlayers() throws Exception {
+        for (int playerId = 1; playerId <= TEAMS * 10; playerId++) {
+            assertTrue(league.assignPlayerToTeam(playerId, 1 + (playerId - 1) % TEAMS));
+        }
+
+        // Transfers and swap batches between random teams, while assigned players only move between rosters
+        runConcurrently(threadIndex -> {
+            Random random = new Random(threadIndex);
+            for (int i = 0; i < 2000; i++) {
+                int playerId = 1 + random.nextInt(TEAMS * 10);
+                int otherId = 1 + random.nextInt(TEAMS * 10);
+                if (i % 2 == 0) {
+                    league.transferPlayer(playerId, 1 + random.nextInt(TEAMS));
+                } else {
+                    int teamId = league.findPlayerById(playerId).getTeamId();
+                    int otherTeamId = league.findPlayerById(otherId).getTeamId();
+                    league.applyBatch(new RosterBatch().transfer(playerId, otherTeamId).transfer(otherId, teamId));
+                }
+            }
+        });
+
+        assertEquals(TEAMS * 10, league.getAssignedPlayers());
+        for (int playerId = 1; playerId <= TEAMS * 10; playerId++) {
+            assertTrue(league.findPlayerById(playerId).isAssignedToTeam());
+        }
+        assertConsistentRosters();
+    }
+
+    @Test
+    public void testListenersFinishMutationsWithoutLocks() throws Exception {
+        AtomicInteger finished = new AtomicInteger();
+        AtomicBoolean lockHeld = new AtomicBoolean();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            league.addMutationListener(new LeagueMutationListener() {
+                @Override
+                public void teamRegistered(Team team) {
+                }
+
+                @Override
+                public void playerRegistered(Player player) {
+                }
+
+                @Override
+                public void playerAssigned(Player player, Team team) {
+                }
+
+                @Override
+                public void playerRemoved(Player player, Team team) {
+                }
+
+                @Override
+                public void mutationsFinished() {
+                    finished.incrementAndGet();
+                    boolean locked = league.findTeamById(1).getRosterLock().isLocked()
+                            || league.findTeamById(2).getRosterLock().isLocked();
+                    try {
+                        // Blocks if this thread still holds the registry write lock
+                        executor.submit(() -> league.findTeamByName("Team 0")).get(10, TimeUnit.SECONDS);
+                    } catch (Exception e) {
+                        locked = true;
+                    }
+                    lockHeld.compareAndSet(false, locked);
+                }
+            });
+
+            league.registerPlayer("New", "Player", "Center");
+            league.assignPlayerToTeam(1, 1);
+            league.transferPlayer(1, 2);
+            league.removePlayerFromTeam(1);
+            league.registerBatch(() -> {
+                league.registerPlayer("Batch", "One", "Guard");
+                league.registerPlayer("Batch", "Two", "Guard");
+            });
+        } finally {
+            executor.shutdown();
+        }
+
+        assertFalse(lockHeld.get());
+        // Once per call above; the batch finishes its registrations together
+        assertEquals(5, finished.get());
+    }
+
+    private void assertConsistentRosters() {
+        Map<Integer, Integer> rosterByPlayer = new HashMap<>();
+        int rosteredPlayers = 0;
+        for (Team team : league.getAllTeams()) {
+            List<Player> roster = team.getRoster();
+            assertTrue(roster.size() <= 15, team.toString());
+            for (Player player : roster) {
+                assertNull(rosterByPlayer.put(player.getPlayerId(), team.getTeamId()), "player on two rosters: " + player);
+                assertEquals(team.getTeamId(), player.getTeamId());
+            }
+            rosteredPlayers += roster.size();
+        }
+
+        for (Player player : league.getAllPlayers()) {
+            if (!rosterByPlayer.containsKey(player.getPlayerId())) {
+                assertFalse(player.isAssignedToTeam(), player.toString());
+            }
+        }
+        assertEquals(rosteredPlayers, league.getAssignedPlayers());
+        assertEquals(PLAYERS - rosteredPlayers, league.getUnassignedPlayers().size());
+        assertEquals(PLAYERS - rosteredPlayers, league.getUnassignedPlayersByPosition("Guard").size());
+        assertEquals(PLAYERS - rosteredPlayers, (int) league.countUnassignedPlayersByPosition().get("Guard"));
+
+        LeagueStatistics statistics = league.getStatistics();
+        assertEquals(rosteredPlayers, statistics.getAssignedPlayers());
+        int fullTeams = 0;
+        for (Team team : league.getAllTeams()) {
+            if (team.isFull()) {
+                fullTeams++;
+            }
+            assertEquals(team.getPlayerCount(), (int) league.countPlayersByPosition(team.getTeamId()).get("Guard"));
+        }
+        assertEquals(fullTeams, statistics.getFullTeams());
+        int playersInCities = 0;
+        for (int players : statistics.getPlayersByCity().values()) {
+            playersInCities += players;
+        }
+        assertEquals(rosteredPlayers, playersInCities);
+    }
+
+    private void runConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            int threadIndex = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.run(threadIndex);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    private interface ThreadTask {
+        void run(int threadIndex);
+    }
+}
@@ -3,7 +3,9 @@ package com.sportsleague;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 public class LeagueManagerTest {
 
@@ -154,4 +156,130 @@ public class LeagueManagerTest {
         assertEquals(3, league.getTotalPlayers());
         assertEquals(2, league.getAssignedPlayers());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testFindByIdLookups() {
+        for (int i = 0; i < 100; i++) {
+            league.registerTeam("Team " + i, "City " + i);
+            league.registerPlayer("First" + i, "Last" + i, "Guard");
+        }
+
+        assertEquals("Team 0", league.findTeamById(1).getTeamName());
+        assertEquals("Team 99", league.findTeamById(100).getTeamName());
+        assertEquals("First57", league.findPlayerById(58).getFirstName());
+        assertEquals(100, league.findPlayerById(100).getPlayerId());
+
+        assertNull(league.findTeamById(0));
+        assertNull(league.findTeamById(101));
+        assertNull(league.findPlayerById(-1));
+        assertNull(league.findPlayerById(101));
+
+        // Iteration order is still registration order
+        List<Player> players = league.getAllPlayers();
+        assertEquals(1, players.get(0).getPlayerId());
+        assertEquals(100, players.get(99).getPlayerId());
+    }
+
+    @Test
+    public void testFindTeamByNameIgnoresCase() {
+        Team team = league.registerTeam("Trail Blazers", "Portland");
+
+        assertSame(team, league.findTeamByName("Trail Blazers"));
+        assertSame(team, league.findTeamByName("TRAIL blazers"));
+        assertNull(league.findTeamByName("Blazers"));
+        assertNull(league.findTeamByName(null));
+
+        assertNull(league.registerTeam("trail BLAZERS", "Seattle"));
+        assertEquals(1, league.getTotalTeams());
+    }
+
+    @Test
+    public void testSearchMatchesSubstringScan() {
+        String[] names = {"Anna", "Hannah", "Nan", "Joanne", "Ann", "Nancy", "Jo", "Ana"};
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            league.registerPlayer(names[random.nextInt(names.length)], names[random.nextInt(names.length)], "Guard");
+        }
+
+        String[] queries = {"", "a", "AN", "nna", "ANNA", "han", "nnah", "joa", "an n", "xyz", "Nancy", "o"};
+        for (String query : queries) {
+            List<Player> expected = new ArrayList<>();
+            for (Player player : league.getAllPlayers()) {
+                if (player.getFirstName().toLowerCase().contains(query.toLowerCase())
+                        || player.getSurname().toLowerCase().contains(query.toLowerCase())) {
+                    expected.add(player);
+                }
+            }
+            assertEquals(expected, league.searchPlayersByName(query), "query '" + query + "'");
+        }
+    }
+
+    @Test
+    public void testAssignmentCountsFollowRosterChanges() {
+        Team team = league.registerTeam("Spurs", "San Antonio");
+        Player player1 = league.registerPlayer("Tim", "Duncan", "Power Forward");
+        Player player2 = league.registerPlayer("Tony", "Parker", "Point Guard");
+
+        // Changes made directly on the team are tracked as well
+        assertTrue(team.addPlayer(player2));
+        assertEquals(1, league.getAssignedPlayers());
+        assertEquals(1, league.getUnassignedPlayerCount());
+        assertEquals(List.of(player1), league.getUnassignedPlayers());
+
+        assertTrue(league.assignPlayerToTeam(player1.getPlayerId(), team.getTeamId()));
+        assertTrue(team.removePlayer(player2.getPlayerId()));
+        assertEquals(1, league.getAssignedPlayers());
+        assertEquals(List.of(player2), league.getUnassignedPlayers());
+
+        assertTrue(league.removePlayerFromTeam(player1.getPlayerId()));
+        assertEquals(0, league.getAssignedPlayers());
+        assertEquals(List.of(player1, player2), league.getUnassignedPlayers());
+    }
+
+    @Test
+    public void testGetPlayersPagesInIdOrder() {
+        for (int i = 1; i <= 45; i++) {
+            league.registerPlayer("Player", "Number" + i, "Guard");
+        }
+
+        List<Player> secondPage = league.getPlayers(20, 20);
+        assertEquals(20, secondPage.size());
+        assertEquals(21, secondPage.get(0).getPlayerId());
+        assertEquals(40, secondPage.get(19).getPlayerId());
+        assertEquals(5, league.getPlayers(40, 20).size());
+        assertTrue(league.getPlayers(45, 20).isEmpty());
+        assertTrue(league.getPlayers(0, 0).isEmpty());
+        assertEquals(45, league.getPlayers(0, Integer.MAX_VALUE).size());
+    }
+
+    @Test
+    public void testViewsAreLiveAndUnmodifiable() {
+        List<Player> players = league.getPlayersView();
+        List<Team> teams = league.getTeamsView();
+        assertTrue(players.isEmpty());
+
+        Player player = league.registerPlayer("Larry", "Bird", "Small Forward");
+        Team team = league.registerTeam("Celtics", "Boston");
+
+        assertEquals(List.of(player), players);
+        assertEquals(List.of(team), teams);
+        assertThrows(UnsupportedOperationException.class, () -> players.add(player));
+        assertThrows(UnsupportedOperationException.class, () -> teams.remove(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> players.get(1));
+    }
+
+    @Test
+    public void testStreamPlayersHonoursOffsetAndLimit() {
+        for (int i = 1; i <= 5000; i++) {
+            league.registerPlayer("Player", "Number" + i, "Guard");
+        }
+
+        assertEquals(List.of(11, 12, 13), league.streamPlayers(10, 3).map(Player::getPlayerId).toList());
+        assertEquals(0, league.streamPlayers(5000, 10).count());
+        assertEquals(4990, league.streamPlayers(10, Integer.MAX_VALUE).count());
+        // Parallel streams split the id range and still see every player exactly once
+        long expectedSum = 5000L * 5001 / 2;
+        assertEquals(expectedSum, league.streamPlayers(0, 5000).parallel().mapToLong(Player::getPlayerId).sum());
+        assertEquals(expectedSum, league.getPlayersView().parallelStream().mapToLong(Player::getPlayerId).sum());
+    }
+}
@@ -0,0 +1,97 @@
+package com.sportsleague;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+import java.lang.management.ManagementFactory;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+public class LeagueMetricsTest {
+
+    private LeagueManager league;
+
+    @BeforeEach
+    public void setUp() {
+        league = new LeagueManager();
+    }
+
+    @Test
+    public void testDisabledMetricsRecordNothing() {
+        league.registerTeam("Lakers", "Los Angeles");
+        league.registerPlayer("Magic", "Johnson", "Point Guard");
+
+        assertFalse(league.getMetrics().isEnabled());
+        assertTrue(league.getMetrics().getOperationStats().isEmpty());
+    }
+
+    @Test
+    public void testEnabledMetricsCountEveryCall() {
+        league.getMetrics().setEnabled(true);
+        Team team = league.registerTeam("Lakers", "Los Angeles");
+        for (int i = 0; i < 10; i++) {
+            league.registerPlayer("Player", "Number" + i, "Guard");
+        }
+        league.assignPlayerToTeam(1, team.getTeamId());
+        league.removePlayerFromTeam(1);
+
+        LeagueMetrics metrics = league.getMetrics();
+        assertEquals(1, metrics.getStats(LeagueOperation.REGISTER_TEAM).getCount());
+        assertEquals(10, metrics.getStats(LeagueOperation.REGISTER_PLAYER).getCount());
+        assertEquals(1, metrics.getStats(LeagueOperation.ASSIGN_PLAYER_TO_TEAM).getCount());
+        // Lookups made internally by assign and remove aren't counted as calls
+        assertEquals(0, metrics.getStats(LeagueOperation.FIND_PLAYER_BY_ID).getCount());
+
+        OperationStats stats = metrics.getStats(LeagueOperation.REGISTER_PLAYER);
+        assertTrue(stats.getP50Nanos() <= stats.getP99Nanos());
+        assertTrue(stats.getP99Nanos() <= stats.getMaxNanos());
+        assertTrue(stats.getOpsPerSecond() > 0);
+
+        metrics.reset();
+        assertTrue(metrics.getOperationStats().isEmpty());
+    }
+
+    @Test
+    public void testHistogramPercentilesStayWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(100_000, histogram.getMaxNanos());
+        assertEquals(50_000, histogram.getPercentileNanos(50), 50_000 / 16.0);
+        assertEquals(99_000, histogram.getPercentileNanos(99), 99_000 / 16.0);
+        assertEquals(100_000, histogram.getPercentileNanos(100));
+    }
+
+    @Test
+    public void testBucketsCoverEveryValue() {
+        long[] values = {0, 1, 15, 16, 17, 1023, 1024, 123_456_789L, Long.MAX_VALUE};
+        for (long value : values) {
+            int bucket = LatencyHistogram.bucketIndex(value);
+            assertTrue(LatencyHistogram.highestValueIn(bucket) >= value);
+            assertTrue(bucket == 0 || LatencyHistogram.highestValueIn(bucket - 1) < value);
+        }
+    }
+
+    @Test
+    public void testMetricsArePublishedOverJmx() throws Exception {
+        league.getMetrics().setEnabled(true);
+        league.registerTeam("Celtics", "Boston");
+        ObjectName name = league.getMetrics().registerMBean();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        try {
+            assertEquals(Boolean.TRUE, server.getAttribute(name, "Enabled"));
+            CompositeData[] stats = (CompositeData[]) server.getAttribute(name, "OperationStats");
+            assertEquals(1, stats.length);
+            assertEquals("registerTeam", stats[0].get("operation"));
+            assertEquals(1L, stats[0].get("count"));
+        } finally {
+            league.close();
+        }
+        assertFalse(server.isRegistered(name));
+    }
+}
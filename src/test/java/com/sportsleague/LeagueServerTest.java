@@ -0,0 +1,188 @@
+package com.sportsleague;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class LeagueServerTest {
+
+    private LeagueManager league;
+    private LeagueServer server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        league = new LeagueManager();
+        server = new LeagueServer(league, 0);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void testClientRunsCommands() throws IOException {
+        try (Client client = new Client(server.getPort())) {
+            client.send("team Hawks Atlanta\nplayer Trae Young Guard\nassign 1 1\nstats\n");
+            assertEquals("OK team 1", client.readLine());
+            assertEquals("OK player 1", client.readLine());
+            assertEquals("OK", client.readLine());
+            assertEquals("OK teams=1 players=1 assigned=1 unassigned=0 full=0", client.readLine());
+
+            client.send("import players /etc/passwd\nquit\n");
+            assertEquals("ERROR import is not available here", client.readLine());
+            assertNull(client.readLine()); // quit closes the connection
+        }
+        assertEquals(1, league.findPlayerById(1).getTeamId());
+    }
+
+    @Test
+    public void testEmptyListingsAreFramed() throws IOException {
+        try (Client client = new Client(server.getPort())) {
+            client.send("search nobody\nunassigned\nplayer Trae Young Guard\nunassigned\nstats\n");
+            assertEquals("OK 0", client.readLine());
+            assertEquals("OK 0", client.readLine());
+            assertEquals("OK player 1", client.readLine());
+            assertEquals("OK 1", client.readLine());
+            assertEquals(league.findPlayerById(1).toString(), client.readLine());
+            assertEquals("OK teams=0 players=1 assigned=0 unassigned=1 full=0", client.readLine());
+        }
+    }
+
+    @Test
+    public void testOverlongLineDisconnectsTheClient() throws IOException {
+        try (Client client = new Client(server.getPort())) {
+            client.send("stats\n" + "x".repeat(BoundedLineReader.MAX_LINE_LENGTH * 4));
+            assertTrue(client.readLine().startsWith("OK teams="));
+            assertEquals("ERROR line is longer than " + BoundedLineReader.MAX_LINE_LENGTH + " characters", client.readLine());
+            assertNull(client.readLine());
+        }
+
+        // Other clients are unaffected
+        try (Client client = new Client(server.getPort())) {
+            client.send("player Trae Young Guard\n");
+            assertEquals("OK player 1", client.readLine());
+        }
+    }
+
+    @Test
+    public void testPipelinedRepliesArriveInOrder() throws IOException {
+        StringBuilder commands = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            commands.append("player First").append(i).append(" Last").append(i).append(" Center\n");
+        }
+        try (Client client = new Client(server.getPort())) {
+            client.send(commands.toString());
+            for (int i = 1; i <= 2000; i++) {
+                assertEquals("OK player " + i, client.readLine());
+            }
+        }
+        assertEquals(2000, league.getTotalPlayers());
+    }
+
+    @Test
+    public void testCloseDisconnectsClients() throws Exception {
+        try (Client client = new Client(server.getPort())) {
+            client.send("stats\n");
+            client.readLine();
+            assertEquals(1, server.getOpenConnectionCount());
+
+            server.close();
+            server.awaitClose();
+            assertNull(client.readLine());
+        }
+        assertThrows(IOException.class, () -> new Client(server.getPort()));
+    }
+
+    @Test
+    public void testManyConcurrentClientsOverLoopback() throws Exception {
+        int clients = 5000;
+        int teams = clients / Team.MAX_PLAYERS;
+        for (int i = 0; i < teams; i++) {
+            league.registerTeam("Team " + i, "City " + i);
+        }
+
+        // Every client connects before any sends, so all of them are open at once
+        CountDownLatch connected = new CountDownLatch(clients);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            int clientIndex = i;
+            results.add(executor.submit(() -> {
+                try (Client client = new Client(server.getPort())) {
+                    connected.countDown();
+                    connected.await();
+                    client.send("player Client " + clientIndex + " Guard\n");
+                    String reply = client.readLine();
+                    int playerId = Integer.parseInt(reply.substring("OK player ".length()));
+
+                    // Pipelined: assign, then a burst of reads, then the roster check
+                    int teamId = 1 + clientIndex % teams;
+                    StringBuilder commands = new StringBuilder("assign " + playerId + " " + teamId + "\n");
+                    for (int j = 0; j < 10; j++) {
+                        commands.append("stats\n");
+                    }
+                    client.send(commands.toString());
+                    int okReplies = client.readLine().equals("OK") ? 1 : 0;
+                    for (int j = 0; j < 10; j++) {
+                        assertTrue(client.readLine().startsWith("OK teams=" + teams + " "));
+                    }
+                    return okReplies;
+                }
+            }));
+        }
+
+        int assigned = 0;
+        for (Future<Integer> result : results) {
+            assigned += result.get(120, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(clients, league.getTotalPlayers());
+        assertEquals(teams * Team.MAX_PLAYERS, assigned);
+        assertEquals(assigned, league.getAssignedPlayers());
+        assertEquals(clients, server.getAcceptedConnectionCount());
+    }
+
+    private static class Client implements AutoCloseable {
+        private final Socket socket;
+        private final BufferedReader reader;
+        private final OutputStream output;
+
+        Client(int port) throws IOException {
+            this.socket = new Socket(InetAddress.getLoopbackAddress(), port);
+            this.reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            this.output = socket.getOutputStream();
+        }
+
+        void send(String commands) throws IOException {
+            output.write(commands.getBytes(StandardCharsets.UTF_8));
+            output.flush();
+        }
+
+        String readLine() throws IOException {
+            return reader.readLine();
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.sportsleague;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class LeagueSnapshotTest {
+
+    private LeagueManager league;
+
+    @BeforeEach
+    public void setUp() {
+        league = new LeagueManager();
+    }
+
+    @Test
+    public void testSnapshotDoesNotChangeAfterwards() {
+        Team team = league.registerTeam("Bulls", "Chicago");
+        Player player = league.registerPlayer("Michael", "Jordan", "Shooting Guard");
+        assertTrue(league.assignPlayerToTeam(player.getPlayerId(), team.getTeamId()));
+        LeagueSnapshot before = league.getSnapshot();
+
+        assertTrue(league.removePlayerFromTeam(player.getPlayerId()));
+        league.registerPlayer("Scottie", "Pippen", "Small Forward");
+        LeagueSnapshot after = league.getSnapshot();
+
+        assertEquals(1, before.getTotalPlayers());
+        assertEquals(1, before.getAssignedPlayers());
+        assertEquals(team.getTeamId(), before.getTeamId(player.getPlayerId()));
+        assertEquals(List.of(player.getPlayerId()), idsOf(before.getRoster(team.getTeamId())));
+        assertEquals(team.getTeamId(), before.getPlayer(player.getPlayerId()).getTeamId());
+
+        assertEquals(2, after.getTotalPlayers());
+        assertEquals(0, after.getAssignedPlayers());
+        assertTrue(after.getRoster(team.getTeamId()).isEmpty());
+        assertEquals(-1, after.getPlayer(player.getPlayerId()).getTeamId());
+        assertEquals("Jordan", after.getPlayer(player.getPlayerId()).getSurname());
+        assertTrue(after.getVersion() > before.getVersion());
+    }
+
+    @Test
+    public void testUnknownIdsAreEmpty() {
+        LeagueSnapshot snapshot = league.getSnapshot();
+
+        assertNull(snapshot.getPlayer(1));
+        assertNull(snapshot.getTeamName(1));
+        assertEquals(-1, snapshot.getTeamId(0));
+        assertTrue(snapshot.getRoster(7).isEmpty());
+    }
+
+    @Test
+    public void testPersistentVectorsKeepOldVersions() {
+        PersistentIntVector ints = PersistentIntVector.filled(1000, -1);
+        PersistentVector<String> strings = PersistentVector.empty();
+        List<PersistentIntVector> intVersions = new ArrayList<>();
+        for (int i = 0; i < 40_000; i++) {
+            ints = ints.append(i);
+            strings = strings.append("s" + i);
+            if (i % 1000 == 0) {
+                intVersions.add(ints);
+            }
+        }
+        PersistentIntVector changed = ints.set(1003, 7);
+        PersistentVector<String> changedStrings = strings.set(33_333, "x");
+
+        assertEquals(41_000, ints.size());
+        assertEquals(-1, ints.get(999));
+        assertEquals(3, ints.get(1003));
+        assertEquals(7, changed.get(1003));
+        assertEquals(39_999, changed.get(40_999));
+        assertEquals("s33333", strings.get(33_333));
+        assertEquals("x", changedStrings.get(33_333));
+        for (int v = 0; v < intVersions.size(); v++) {
+            PersistentIntVector version = intVersions.get(v);
+            assertEquals(1000 + v * 1000 + 1, version.size());
+            assertEquals(v * 1000, version.get(version.size() - 1));
+        }
+        PersistentVector<String> finalStrings = strings;
+        assertThrows(IndexOutOfBoundsException.class, () -> finalStrings.get(40_000));
+    }
+
+    @Test
+    public void testReadersNeverSeeTornRosters() throws Exception {
+        int teamCount = 8;
+        for (int t = 1; t <= teamCount; t++) {
+            league.registerTeam("Team " + t, "City " + t);
+        }
+        for (int p = 1; p <= 100; p++) {
+            league.registerPlayer("Player", "Number" + p, "Guard");
+        }
+
+        AtomicBoolean stop = new AtomicBoolean();
+        ExecutorService pool = Executors.newFixedThreadPool(5);
+        List<Future<?>> writers = new ArrayList<>();
+        for (int w = 0; w < 4; w++) {
+            int seed = w;
+            writers.add(pool.submit(() -> {
+                Random random = new Random(seed);
+                while (!stop.get()) {
+                    int playerId = 1 + random.nextInt(100);
+                    league.removePlayerFromTeam(playerId);
+                    league.assignPlayerToTeam(playerId, 1 + random.nextInt(teamCount));
+                }
+            }));
+        }
+        Future<?> reader = pool.submit(() -> {
+            for (int round = 0; round < 20_000; round++) {
+                LeagueSnapshot snapshot = league.getSnapshot();
+                int onRosters = 0;
+                for (int t = 1; t <= teamCount; t++) {
+                    List<Player> roster = snapshot.getRoster(t);
+                    assertTrue(roster.size() <= Team.MAX_PLAYERS);
+                    for (Player player : roster) {
+                        assertEquals(t, snapshot.getTeamId(player.getPlayerId()));
+                    }
+                    onRosters += roster.size();
+                }
+                assertEquals(snapshot.getAssignedPlayers(), onRosters);
+            }
+        });
+
+        try {
+            reader.get(60, TimeUnit.SECONDS);
+        } finally {
+            stop.set(true);
+            for (Future<?> writer : writers) {
+                writer.get(10, TimeUnit.SECONDS);
+            }
+            pool.shutdown();
+        }
+
+        LeagueSnapshot last = league.getSnapshot();
+        assertEquals(league.getAssignedPlayers(), last.getAssignedPlayers());
+        for (int p = 1; p <= 100; p++) {
+            assertEquals(league.findPlayerById(p).getTeamId(), last.getTeamId(p));
+        }
+    }
+
+    private static List<Integer> idsOf(List<Player> players) {
+        List<Integer> ids = new ArrayList<>();
+        for (Player player : players) {
+            ids.add(player.getPlayerId());
+        }
+        return ids;
+    }
+}
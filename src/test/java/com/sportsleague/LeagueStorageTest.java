@@ -0,0 +1,184 @@
+package com.sportsleague;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class LeagueStorageTest {
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    public void testStateSurvivesRestart() throws IOException {
+        try (LeagueStorage storage = LeagueStorage.open(dataDir)) {
+            populate(storage.getLeagueManager());
+        }
+
+        try (LeagueStorage storage = LeagueStorage.open(dataDir)) {
+            assertPopulated(storage.getLeagueManager());
+        }
+    }
+
+    @Test
+    public void testRecoversFromJournalWithoutCleanShutdown() throws IOException {
+        LeagueStorage crashed = LeagueStorage.open(dataDir, 0, LeagueStorage.DEFAULT_CHECKPOINT_EVERY_RECORDS);
+        populate(crashed.getLeagueManager());
+        // No close(): only the journal is on disk, there is no snapshot
+        assertFalse(Files.exists(dataDir.resolve(SnapshotFile.FILE_NAME)));
+
+        try (LeagueStorage storage = LeagueStorage.open(dataDir)) {
+            assertPopulated(storage.getLeagueManager());
+        }
+    }
+
+    @Test
+    public void testCheckpointCompactsJournal() throws IOException {
+        LeagueStorage crashed = LeagueStorage.open(dataDir, 0, LeagueStorage.DEFAULT_CHECKPOINT_EVERY_RECORDS);
+        LeagueManager league = crashed.getLeagueManager();
+        populate(league);
+        crashed.checkpoint();
+        assertEquals(1, journalFiles().size());
+
+        Player player = league.registerPlayer("Dennis", "Rodman", "Power Forward");
+        league.assignPlayerToTeam(player.getPlayerId(), 2);
+
+        try (LeagueStorage storage = LeagueStorage.open(dataDir)) {
+            LeagueManager recovered = storage.getLeagueManager();
+            assertPopulatedTeams(recovered);
+            assertEquals(4, recovered.getTotalPlayers());
+            assertEquals(2, recovered.findPlayerById(4).getTeamId());
+            assertEquals(4, recovered.getAssignedPlayers());
+        }
+    }
+
+    @Test
+    public void testCheckpointsDuringMutationsRecoverTheSameLeague() throws Exception {
+        // Group commits are left to sync(), so mutations run fast enough to race the checkpoints
+        LeagueStorage crashed = LeagueStorage.open(dataDir, 60_000, LeagueStorage.DEFAULT_CHECKPOINT_EVERY_RECORDS);
+        LeagueManager league = crashed.getLeagueManager();
+        // Few enough teams that rosters are mostly full, where replaying a change twice fails outright
+        for (int i = 0; i < 2; i++) {
+            league.registerTeam("Team " + i, "City " + i);
+        }
+        for (int i = 0; i < 40; i++) {
+            league.registerPlayer("First" + i, "Last" + i, "Guard");
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<?>> mutators = new ArrayList<>();
+            for (int thread = 0; thread < 3; thread++) {
+                Random random = new Random(thread);
+                mutators.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        int playerId = 1 + random.nextInt(league.getTotalPlayers());
+                        int teamId = 1 + random.nextInt(league.getTotalTeams());
+                        int operation = random.nextInt(10);
+                        if (operation == 0) {
+                            league.registerPlayer("Late" + i, "Signing", "Center");
+                        } else if (operation < 4) {
+                            league.removePlayerFromTeam(playerId);
+                        } else if (operation < 6) {
+                            league.transferPlayer(playerId, teamId);
+                        } else {
+                            league.assignPlayerToTeam(playerId, teamId);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> mutator : mutators) {
+                while (!mutator.isDone()) {
+                    crashed.checkpoint();
+                }
+                mutator.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        crashed.sync();
+
+        // No close(): the last snapshot and the journal after it must add up to the same league
+        try (LeagueStorage storage = LeagueStorage.open(dataDir)) {
+            LeagueManager recovered = storage.getLeagueManager();
+            assertEquals(league.getTotalPlayers(), recovered.getTotalPlayers());
+            assertEquals(league.getAssignedPlayers(), recovered.getAssignedPlayers());
+            for (int teamId = 1; teamId <= league.getTotalTeams(); teamId++) {
+                assertEquals(league.findTeamById(teamId).getRoster().stream().map(Player::getPlayerId).toList(),
+                        recovered.findTeamById(teamId).getRoster().stream().map(Player::getPlayerId).toList());
+            }
+        }
+    }
+
+    @Test
+    public void testIgnoresTornJournalTail() throws IOException {
+        LeagueStorage crashed = LeagueStorage.open(dataDir, 0, LeagueStorage.DEFAULT_CHECKPOINT_EVERY_RECORDS);
+        populate(crashed.getLeagueManager());
+        Path journal = journalFiles().get(0);
+        Files.write(journal, new byte[]{0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        try (LeagueStorage storage = LeagueStorage.open(dataDir)) {
+            assertPopulated(storage.getLeagueManager());
+        }
+    }
+
+    @Test
+    public void testRejectsJournalThatDoesNotMatch() throws IOException {
+        Team bulls = new Team(1, "Bulls", "Chicago");
+        Player jordan = new Player(1, "Michael", "Jordan", "Shooting Guard");
+        try (LeagueJournal journal = new LeagueJournal(dataDir, 0, true)) {
+            journal.teamRegistered(bulls);
+            journal.playerRegistered(jordan);
+            journal.playerAssigned(jordan, new Team(2, "Heat", "Miami"));
+        }
+
+        assertThrows(IOException.class, () -> LeagueStorage.open(dataDir));
+    }
+
+    private void populate(LeagueManager league) {
+        league.registerTeam("Bulls", "Chicago");
+        league.registerTeam("Heat", "Miami");
+        Player jordan = league.registerPlayer("Michael", "Jordan", "Shooting Guard");
+        Player pippen = league.registerPlayer("Scottie", "Pippen", "Small Forward");
+        league.registerPlayer("Alonzo", "Mourning", "Center");
+        league.assignPlayerToTeam(jordan.getPlayerId(), 1);
+        league.assignPlayerToTeam(pippen.getPlayerId(), 1);
+        league.removePlayerFromTeam(pippen.getPlayerId());
+        league.assignPlayerToTeam(pippen.getPlayerId(), 2);
+        league.assignPlayerToTeam(3, 2);
+    }
+
+    private void assertPopulated(LeagueManager league) {
+        assertPopulatedTeams(league);
+        assertEquals(3, league.getTotalPlayers());
+        assertEquals("Mourning", league.findPlayerById(3).getSurname());
+        assertEquals(1, league.findPlayerById(1).getTeamId());
+        assertEquals(2, league.findPlayerById(2).getTeamId());
+        assertEquals(3, league.getAssignedPlayers());
+    }
+
+    private void assertPopulatedTeams(LeagueManager league) {
+        assertEquals(2, league.getTotalTeams());
+        assertEquals("Miami", league.findTeamByName("heat").getCity());
+        assertEquals(1, league.findTeamById(1).getPlayerCount());
+    }
+
+    private List<Path> journalFiles() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dataDir, "journal-*.log")) {
+            stream.forEach(files::add);
+        }
+        return files;
+    }
+}
@@ -0,0 +1,100 @@
+package com.sportsleague;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+
+public class NameCompletionIndexTest {
+
+    private LeagueManager league;
+
+    @BeforeEach
+    public void setUp() {
+        league = new LeagueManager();
+        league.registerTeam("Los Angeles Lakers", "Los Angeles");   // 1
+        league.registerTeam("Boston Celtics", "Boston");            // 2
+        league.registerTeam("Los Angeles Clippers", "Los Angeles"); // 3
+        league.registerPlayer("Michael", "Jordan", "Guard");        // 1
+        league.registerPlayer("Magic", "Johnson", "Guard");         // 2
+        league.registerPlayer("DeAndre", "Jordan", "Center");       // 3
+        league.registerPlayer("Michael", "Cooper", "Guard");        // 4
+        league.registerPlayer("Jordan", "Clarkson", "Guard");       // 5
+    }
+
+    @Test
+    public void testCompletionsComeInAlphabeticalOrder() {
+        // "johnson" before "jordan"; each name's players in id order, a player listed once
+        assertEquals(List.of(2, 1, 3, 5), playerIds(league.completePlayerNames("jo", 10)));
+        assertEquals(List.of(2, 1, 4), playerIds(league.completePlayerNames("M", 10)));
+        assertEquals(List.of(5, 4), playerIds(league.completePlayerNames("c", 10)));
+        assertTrue(league.completePlayerNames("x", 10).isEmpty());
+        assertTrue(league.completePlayerNames(" ", 10).isEmpty());
+    }
+
+    @Test
+    public void testEveryWordMustStartAName() {
+        assertEquals(List.of(1), playerIds(league.completePlayerNames("michael j", 10)));
+        assertEquals(List.of(1), playerIds(league.completePlayerNames("Jor  MIC", 10)));
+        assertEquals(List.of(5), playerIds(league.completePlayerNames("jordan cl", 10)));
+        assertTrue(league.completePlayerNames("michael x", 10).isEmpty());
+    }
+
+    @Test
+    public void testTeamsCompleteOnAnyWordOfTheirName() {
+        assertEquals(List.of(1), teamIds(league.completeTeamNames("lak", 10)));
+        assertEquals(List.of(1, 3), teamIds(league.completeTeamNames("los a", 10)));
+        assertEquals(List.of(3), teamIds(league.completeTeamNames("angeles c", 10)));
+        assertEquals(List.of(2), teamIds(league.completeTeamNames("B", 10)));
+    }
+
+    @Test
+    public void testLimitStopsTheWalk() {
+        assertEquals(List.of(2, 1), playerIds(league.completePlayerNames("jo", 2)));
+        assertTrue(league.completePlayerNames("jo", 0).isEmpty());
+    }
+
+    @Test
+    public void testNamesRegisteredAfterTheFirstCompletionAreFound() {
+        assertTrue(league.completePlayerNames("pip", 10).isEmpty());
+        assertTrue(league.completeTeamNames("bul", 10).isEmpty());
+
+        league.registerPlayer("Scottie", "Pippen", "Forward");      // 6
+        league.registerTeam("Chicago Bulls", "Chicago");            // 4
+
+        assertEquals(List.of(6), playerIds(league.completePlayerNames("pip", 10)));
+        assertEquals(List.of(4), teamIds(league.completeTeamNames("bul", 10)));
+    }
+
+    @Test
+    public void testNullNamesAreRejectedBeforeAnyIndexChanges() {
+        league.completePlayerNames("m", 10);
+        league.completeTeamNames("l", 10);
+
+        assertThrows(IllegalArgumentException.class, () -> league.registerPlayer(null, "Nobody", "Guard"));
+        assertThrows(IllegalArgumentException.class, () -> league.registerPlayer("Nobody", null, "Guard"));
+        assertNull(league.registerTeam(null, "Nowhere"));
+
+        assertEquals(5, league.getTotalPlayers());
+        assertEquals(3, league.getTotalTeams());
+        assertEquals(6, league.registerPlayer("Moses", "Malone", "Center").getPlayerId());
+        assertEquals(List.of(2, 6, 1, 4), playerIds(league.completePlayerNames("m", 10)));
+    }
+
+    private static List<Integer> playerIds(List<Player> players) {
+        List<Integer> ids = new ArrayList<>();
+        for (Player player : players) {
+            ids.add(player.getPlayerId());
+        }
+        return ids;
+    }
+
+    private static List<Integer> teamIds(List<Team> teams) {
+        List<Integer> ids = new ArrayList<>();
+        for (Team team : teams) {
+            ids.add(team.getTeamId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,68 @@
+package com.sportsleague;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.List;
+
+public class OffHeapStorageTest {
+
+    private LeagueManager league;
+
+    @BeforeEach
+    public void setUp() {
+        league = new LeagueManager(StorageEngine.OFF_HEAP);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        league.close();
+    }
+
+    @Test
+    public void testPlayersReadBackFromNativeMemory() {
+        for (int i = 1; i <= 10_000; i++) {
+            league.registerPlayer("First" + i, "Ünïcödé" + i, i % 3 == 0 ? "Center" : "Guard");
+        }
+
+        Player player = league.findPlayerById(9_999);
+        assertEquals("First9999", player.getFirstName());
+        assertEquals("Ünïcödé9999", player.getSurname());
+        assertEquals("Center", player.getPosition());
+        assertFalse(player.isAssignedToTeam());
+        assertEquals(10_000, league.getAllPlayers().size());
+        assertEquals(List.of(league.findPlayerById(10_000)), league.searchPlayersByName("ünïcödé10000"));
+    }
+
+    @Test
+    public void testSameSemanticsAsHeapStorage() {
+        Team team = league.registerTeam("Suns", "Phoenix");
+        Team other = league.registerTeam("Jazz", "Utah");
+        for (int i = 1; i <= 16; i++) {
+            league.registerPlayer("Player", "Number" + i, "Forward");
+        }
+
+        for (int playerId = 1; playerId <= 15; playerId++) {
+            assertTrue(league.assignPlayerToTeam(playerId, team.getTeamId()));
+        }
+        assertFalse(league.assignPlayerToTeam(16, team.getTeamId()));
+        assertFalse(league.assignPlayerToTeam(1, other.getTeamId()));
+        assertTrue(team.isFull());
+        assertEquals(15, league.getAssignedPlayers());
+
+        assertTrue(league.removePlayerFromTeam(1));
+        assertTrue(league.assignPlayerToTeam(1, other.getTeamId()));
+        assertEquals(other.getTeamId(), league.findPlayerById(1).getTeamId());
+        assertEquals(List.of(league.findPlayerById(16)), league.getUnassignedPlayers());
+    }
+
+    @Test
+    public void testClosedLeagueRejectsAccess() {
+        Player player = league.registerPlayer("Steve", "Nash", "Point Guard");
+        league.close();
+
+        assertThrows(IllegalStateException.class, player::getFirstName);
+        league = new LeagueManager(StorageEngine.OFF_HEAP);
+    }
+}
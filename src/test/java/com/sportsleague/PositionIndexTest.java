@@ -0,0 +1,99 @@
+package com.sportsleague;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class PositionIndexTest {
+
+    private LeagueManager league;
+    private Team hawks;
+    private Team bulls;
+
+    @BeforeEach
+    public void setUp() {
+        league = new LeagueManager();
+        hawks = league.registerTeam("Hawks", "Atlanta");
+        bulls = league.registerTeam("Bulls", "Chicago");
+        league.registerPlayer("Dikembe", "Mutombo", "Center");   // 1
+        league.registerPlayer("Trae", "Young", "Guard");         // 2
+        league.registerPlayer("Joakim", "Noah", " center");      // 3
+        league.registerPlayer("Derrick", "Rose", "GUARD");       // 4
+        league.registerPlayer("Scottie", "Pippen", "Forward");   // 5
+        league.registerPlayer("Artis", "Gilmore", "CENTER ");    // 6
+    }
+
+    @Test
+    public void testPositionsIgnoreCaseAndSpaces() {
+        assertEquals(List.of("Center", "Guard", "Forward"), league.getPositions());
+        assertEquals(List.of(1, 3, 6), playerIds(league.getPlayersByPosition("center")));
+        assertEquals(List.of(2, 4), playerIds(league.getPlayersByPosition("  Guard ")));
+        assertTrue(league.getPlayersByPosition("Goalkeeper").isEmpty());
+    }
+
+    @Test
+    public void testFacetedCountsFollowAssignments() {
+        league.assignPlayerToTeam(1, hawks.getTeamId());
+        league.assignPlayerToTeam(2, hawks.getTeamId());
+        league.assignPlayerToTeam(3, bulls.getTeamId());
+
+        assertEquals(Map.of("Center", 3, "Guard", 2, "Forward", 1), league.countPlayersByPosition());
+        assertEquals(Map.of("Center", 1, "Guard", 1, "Forward", 1), league.countUnassignedPlayersByPosition());
+        assertEquals(Map.of("Center", 1, "Guard", 1, "Forward", 0), league.countPlayersByPosition(hawks.getTeamId()));
+        assertEquals(Map.of("Center", 1, "Guard", 0, "Forward", 0), league.countPlayersByPosition(bulls.getTeamId()));
+        assertTrue(league.countPlayersByPosition(99).isEmpty());
+
+        assertEquals(List.of(6), playerIds(league.getUnassignedPlayersByPosition("Center")));
+        assertEquals(List.of(1), playerIds(league.getPlayersByPosition("Center", hawks.getTeamId())));
+        assertTrue(league.getPlayersByPosition("Forward", bulls.getTeamId()).isEmpty());
+
+        league.removePlayerFromTeam(1);
+        league.transferPlayer(3, hawks.getTeamId());
+        assertEquals(List.of(1, 6), playerIds(league.getUnassignedPlayersByPosition("center")));
+        assertEquals(List.of(3), playerIds(league.getPlayersByPosition("Center", hawks.getTeamId())));
+        assertEquals(2, league.countUnassignedPlayersByPosition().get("Center"));
+    }
+
+    @Test
+    public void testBatchesUpdateTheIndex() {
+        assertTrue(league.applyBatch(new RosterBatch().assign(2, hawks.getTeamId()).assign(4, bulls.getTeamId())));
+        assertTrue(league.getUnassignedPlayersByPosition("Guard").isEmpty());
+        assertEquals(0, league.countUnassignedPlayersByPosition().get("Guard"));
+
+        assertTrue(league.applyBatch(new RosterBatch().remove(2)));
+        assertEquals(List.of(2), playerIds(league.getUnassignedPlayersByPosition("Guard")));
+    }
+
+    @Test
+    public void testIndexCoversPreloadedPlayers() {
+        PlayerStore store = new HeapPlayerStore();
+        store.add("A", "One", "Keeper");
+        store.add("B", "Two", "keeper");
+        LeagueManager preloaded = new LeagueManager(store);
+
+        assertEquals(List.of("Keeper"), preloaded.getPositions());
+        assertEquals(2, preloaded.countUnassignedPlayersByPosition().get("Keeper"));
+    }
+
+    @Test
+    public void testNullPositionRegistersNothing() {
+        assertThrows(IllegalArgumentException.class, () -> league.registerPlayer("No", "Position", null));
+
+        assertEquals(6, league.getTotalPlayers());
+        assertTrue(league.searchPlayersByName("Position").isEmpty());
+        assertEquals(6, league.getUnassignedPlayers().size());
+        Player next = league.registerPlayer("Joel", "Embiid", "Center");
+        assertEquals(7, next.getPlayerId());
+    }
+
+    private static List<Integer> playerIds(List<Player> players) {
+        List<Integer> ids = new ArrayList<>();
+        for (Player player : players) {
+            ids.add(player.getPlayerId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,156 @@
+package com.sportsleague;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+
+public class RosterBatchTest {
+
+    private LeagueManager league;
+    private Team hawks;
+    private Team bulls;
+
+    @BeforeEach
+    public void setUp() {
+        league = new LeagueManager();
+        hawks = league.registerTeam("Hawks", "Atlanta");
+        bulls = league.registerTeam("Bulls", "Chicago");
+        for (int i = 0; i < 40; i++) {
+            league.registerPlayer("First" + i, "Last" + i, "Guard");
+        }
+    }
+
+    @Test
+    public void testBatchAppliesEveryOperation() {
+        league.assignPlayerToTeam(1, hawks.getTeamId());
+        league.assignPlayerToTeam(2, hawks.getTeamId());
+
+        RosterBatch batch = new RosterBatch()
+                .assign(3, bulls.getTeamId())
+                .remove(1)
+                .transfer(2, bulls.getTeamId());
+        assertEquals(3, batch.size());
+        assertTrue(league.applyBatch(batch));
+
+        assertFalse(league.findPlayerById(1).isAssignedToTeam());
+        assertEquals(bulls.getTeamId(), league.findPlayerById(2).getTeamId());
+        assertEquals(bulls.getTeamId(), league.findPlayerById(3).getTeamId());
+        assertEquals(0, hawks.getPlayerCount());
+        assertEquals(List.of(3, 2), playerIds(bulls.getRoster()));
+        assertEquals(2, league.getAssignedPlayers());
+        assertEquals(38, league.getUnassignedPlayers().size());
+    }
+
+    @Test
+    public void testBatchOverCapacityChangesNothing() {
+        RosterBatch batch = new RosterBatch();
+        for (int playerId = 1; playerId <= Team.MAX_PLAYERS + 1; playerId++) {
+            batch.assign(playerId, hawks.getTeamId());
+        }
+        long version = league.getSnapshot().getVersion();
+
+        assertFalse(league.applyBatch(batch));
+        assertEquals(0, hawks.getPlayerCount());
+        assertEquals(0, league.getAssignedPlayers());
+        assertEquals(version, league.getSnapshot().getVersion());
+        for (int playerId = 1; playerId <= Team.MAX_PLAYERS + 1; playerId++) {
+            assertFalse(league.findPlayerById(playerId).isAssignedToTeam());
+        }
+    }
+
+    @Test
+    public void testBatchIsValidatedInOrder() {
+        for (int playerId = 1; playerId <= Team.MAX_PLAYERS; playerId++) {
+            league.assignPlayerToTeam(playerId, hawks.getTeamId());
+        }
+
+        // Hawks are full until player 1 leaves, so the order of the operations matters
+        assertFalse(league.applyBatch(new RosterBatch().assign(20, hawks.getTeamId()).remove(1)));
+        assertTrue(league.applyBatch(new RosterBatch().remove(1).assign(20, hawks.getTeamId())));
+        assertEquals(Team.MAX_PLAYERS, hawks.getPlayerCount());
+        assertEquals(hawks.getTeamId(), league.findPlayerById(20).getTeamId());
+
+        // A player can't be assigned twice or removed when already off a team
+        assertFalse(league.applyBatch(new RosterBatch().assign(21, bulls.getTeamId()).assign(21, bulls.getTeamId())));
+        assertFalse(league.applyBatch(new RosterBatch().remove(1)));
+        assertEquals(0, bulls.getPlayerCount());
+    }
+
+    @Test
+    public void testBatchRejectsUnknownIds() {
+        assertFalse(league.applyBatch(new RosterBatch().assign(1, hawks.getTeamId()).assign(999, hawks.getTeamId())));
+        assertFalse(league.applyBatch(new RosterBatch().assign(1, 99)));
+        assertFalse(league.findPlayerById(1).isAssignedToTeam());
+        assertTrue(league.applyBatch(new RosterBatch()));
+    }
+
+    @Test
+    public void testTransferKeepsPlayerAssignedWhenTargetIsFull() {
+        for (int playerId = 1; playerId <= Team.MAX_PLAYERS; playerId++) {
+            league.assignPlayerToTeam(playerId, bulls.getTeamId());
+        }
+        league.assignPlayerToTeam(20, hawks.getTeamId());
+
+        assertFalse(league.transferPlayer(20, bulls.getTeamId()));
+        assertEquals(hawks.getTeamId(), league.findPlayerById(20).getTeamId());
+        assertFalse(league.transferPlayer(20, hawks.getTeamId())); // Already there
+        assertFalse(league.transferPlayer(21, hawks.getTeamId())); // Not on a team
+
+        league.removePlayerFromTeam(1);
+        assertTrue(league.transferPlayer(20, bulls.getTeamId()));
+        assertEquals(bulls.getTeamId(), league.findPlayerById(20).getTeamId());
+        assertEquals(0, hawks.getPlayerCount());
+        assertEquals(Team.MAX_PLAYERS, bulls.getPlayerCount());
+    }
+
+    @Test
+    public void testBatchPublishesOneSnapshot() {
+        league.assignPlayerToTeam(1, hawks.getTeamId());
+        long version = league.getSnapshot().getVersion();
+
+        assertTrue(league.applyBatch(new RosterBatch().transfer(1, bulls.getTeamId()).assign(2, hawks.getTeamId())));
+        LeagueSnapshot snapshot = league.getSnapshot();
+        assertTrue(snapshot.getVersion() > version);
+        assertEquals(bulls.getTeamId(), snapshot.getTeamId(1));
+        assertEquals(hawks.getTeamId(), snapshot.getTeamId(2));
+        assertEquals(2, snapshot.getAssignedPlayers());
+    }
+
+    @Test
+    public void testTransferIsJournaledAsRemoveThenAssign() {
+        List<String> events = new ArrayList<>();
+        league.addMutationListener(new LeagueMutationListener() {
+            @Override
+            public void teamRegistered(Team team) {
+            }
+
+            @Override
+            public void playerRegistered(Player player) {
+            }
+
+            @Override
+            public void playerAssigned(Player player, Team team) {
+                events.add("assign " + player.getPlayerId() + " " + team.getTeamId());
+            }
+
+            @Override
+            public void playerRemoved(Player player, Team team) {
+                events.add("remove " + player.getPlayerId() + " " + team.getTeamId());
+            }
+        });
+        league.assignPlayerToTeam(1, hawks.getTeamId());
+        league.transferPlayer(1, bulls.getTeamId());
+
+        assertEquals(List.of("assign 1 1", "remove 1 1", "assign 1 2"), events);
+    }
+
+    private static List<Integer> playerIds(List<Player> players) {
+        List<Integer> ids = new ArrayList<>();
+        for (Player player : players) {
+            ids.add(player.getPlayerId());
+        }
+        return ids;
+    }
+}
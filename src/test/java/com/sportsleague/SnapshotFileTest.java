@@ -0,0 +1,103 @@
+package com.sportsleague;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class SnapshotFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        LeagueManager original = new LeagueManager();
+        original.registerTeam("Bulls", "Chicago");
+        original.registerTeam("Heat", "Miami");
+        for (int i = 1; i <= 5000; i++) {
+            original.registerPlayer("First" + i, "Last" + i, i % 2 == 0 ? "Guard" : "Center");
+        }
+        for (int playerId = 1; playerId <= 15; playerId++) {
+            original.assignPlayerToTeam(playerId, 1);
+        }
+        original.assignPlayerToTeam(4000, 2);
+
+        Path file = tempDir.resolve("league.snapshot");
+        SnapshotFile.write(original, file);
+        LeagueManager loaded = SnapshotFile.open(file);
+
+        assertEquals(2, loaded.getTotalTeams());
+        assertEquals(5000, loaded.getTotalPlayers());
+        assertEquals(16, loaded.getAssignedPlayers());
+        assertTrue(loaded.findTeamById(1).isFull());
+        assertEquals("Miami", loaded.findTeamByName("HEAT").getCity());
+        assertEquals(2, loaded.findPlayerById(4000).getTeamId());
+
+        Player player = loaded.findPlayerById(2500);
+        assertEquals("First2500", player.getFirstName());
+        assertEquals("Last2500", player.getSurname());
+        assertEquals("Guard", player.getPosition());
+        assertFalse(player.isAssignedToTeam());
+        assertSame(player, loaded.findPlayerById(2500));
+
+        List<Player> results = loaded.searchPlayersByName("last4999");
+        assertEquals(1, results.size());
+        assertSame(loaded.findPlayerById(4999), results.get(0));
+    }
+
+    @Test
+    public void testOpenedLeagueAcceptsChanges() throws IOException {
+        LeagueManager original = new LeagueManager();
+        original.registerTeam("Lakers", "Los Angeles");
+        original.registerPlayer("Kobe", "Bryant", "Shooting Guard");
+
+        Path file = tempDir.resolve("league.snapshot");
+        SnapshotFile.write(original, file);
+        LeagueManager loaded = SnapshotFile.open(file);
+
+        Player newPlayer = loaded.registerPlayer("Pau", "Gasol", "Power Forward");
+        assertEquals(2, newPlayer.getPlayerId());
+        assertTrue(loaded.assignPlayerToTeam(1, 1));
+        assertTrue(loaded.assignPlayerToTeam(2, 1));
+        assertEquals(List.of(loaded.findPlayerById(1), newPlayer), loaded.findTeamById(1).getRoster());
+        assertEquals(2, loaded.searchPlayersByName("o").size());
+    }
+
+    @Test
+    public void testPositionsSurviveRoundTrip() throws IOException {
+        LeagueManager original = new LeagueManager();
+        original.registerTeam("Bulls", "Chicago");
+        for (int i = 1; i <= 30; i++) {
+            original.registerPlayer("First" + i, "Last" + i, i % 3 == 0 ? "Center" : "Guard");
+        }
+        original.assignPlayerToTeam(3, 1);
+        original.assignPlayerToTeam(4, 1);
+
+        Path file = tempDir.resolve("league.snapshot");
+        SnapshotFile.write(original, file);
+        LeagueManager loaded = SnapshotFile.open(file);
+
+        assertEquals(List.of("Guard", "Center"), loaded.getPositions());
+        assertEquals(original.countPlayersByPosition(), loaded.countPlayersByPosition());
+        assertEquals(original.countUnassignedPlayersByPosition(), loaded.countUnassignedPlayersByPosition());
+        assertEquals(9, loaded.getUnassignedPlayersByPosition("center").size());
+        assertEquals(original.getPlayersByPosition("Guard").size(), loaded.getPlayersByPosition("GUARD").size());
+
+        loaded.registerPlayer("New", "Center", "Center");
+        loaded.assignPlayerToTeam(6, 1);
+        assertEquals(9, loaded.getUnassignedPlayersByPosition("Center").size());
+        assertEquals(11, loaded.getPlayersByPosition("Center").size());
+    }
+
+    @Test
+    public void testRejectsOtherFiles() throws IOException {
+        Path file = tempDir.resolve("not-a-snapshot");
+        Files.write(file, new byte[100]);
+
+        assertThrows(IOException.class, () -> SnapshotFile.open(file));
+    }
+}
@@ -3,6 +3,7 @@ package com.sportsleague;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.List;
 
 public class TeamTest {
 
@@ -47,4 +48,19 @@ public class TeamTest {
         assertFalse(team.addPlayer(player1));
         assertEquals(1, team.getPlayerCount()); // Count shouldn't change
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testRosterViewIsUnmodifiableSnapshot() {
+        Player player3 = new Player(3, "Fred", "VanVleet", "Point Guard");
+        assertTrue(team.addPlayer(player1));
+        List<Player> view = team.getRosterView();
+
+        assertTrue(team.addPlayer(player3));
+        assertTrue(team.removePlayer(player1.getPlayerId()));
+
+        // The view keeps the roster it was taken from while the team moves on
+        assertEquals(List.of(player1), view);
+        assertEquals(List.of(player3), team.getRosterView());
+        assertThrows(UnsupportedOperationException.class, () -> view.add(player3));
+    }
+}